@@ -8,10 +8,12 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.saveit.commons.core.Config;
+import seedu.saveit.commons.core.DataFileFormat;
 import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.commons.core.Version;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.util.ConfigUtil;
+import seedu.saveit.commons.util.FileUtil;
 import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.Logic;
 import seedu.saveit.logic.LogicManager;
@@ -21,9 +23,12 @@ import seedu.saveit.model.ModelManager;
 import seedu.saveit.model.ReadOnlyAccountList;
 import seedu.saveit.model.ReadOnlyUserPrefs;
 import seedu.saveit.model.UserPrefs;
-import seedu.saveit.storage.JsonAccountListStorage;
+import seedu.saveit.storage.BackgroundSaveItStorage;
+import seedu.saveit.storage.BinaryAccountListStorage;
 import seedu.saveit.storage.JsonUserPrefsStorage;
+import seedu.saveit.storage.SaveItFileConverter;
 import seedu.saveit.storage.SaveItStorage;
+import seedu.saveit.storage.ShardedJsonAccountListStorage;
 import seedu.saveit.storage.Storage;
 import seedu.saveit.storage.StorageManager;
 import seedu.saveit.storage.UserPrefsStorage;
@@ -55,7 +60,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SaveItStorage saveItStorage = new JsonAccountListStorage(userPrefs.getAddressBookFilePath());
+        BackgroundSaveItStorage saveItStorage = new BackgroundSaveItStorage(initSaveItStorage(userPrefs));
         storage = new StorageManager(saveItStorage, userPrefsStorage);
 
         initLogging(config);
@@ -67,6 +72,38 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the data file in the format chosen in {@code userPrefs}. <br>
+     * A data file in the other format is converted to the chosen format first. If it cannot be converted,
+     * it is kept in the format it is in.
+     */
+    private SaveItStorage initSaveItStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isBinaryChosen = userPrefs.getDataFileFormat() == DataFileFormat.BINARY;
+        SaveItStorage jsonStorage = new ShardedJsonAccountListStorage(filePath);
+        SaveItStorage binaryStorage = new BinaryAccountListStorage(filePath);
+        SaveItStorage chosenStorage = isBinaryChosen ? binaryStorage : jsonStorage;
+        SaveItStorage otherStorage = isBinaryChosen ? jsonStorage : binaryStorage;
+
+        try {
+            if (!FileUtil.isFileExists(filePath) || BinaryAccountListStorage.isBinaryFile(filePath) == isBinaryChosen) {
+                return chosenStorage;
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will not convert it: " + StringUtil.getDetails(e));
+            return chosenStorage;
+        }
+
+        try {
+            SaveItFileConverter.convert(otherStorage, chosenStorage);
+            return chosenStorage;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data file to " + userPrefs.getDataFileFormat()
+                    + ". Will keep it in its format: " + StringUtil.getDetails(e));
+            return otherStorage;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -173,6 +210,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping $AVE IT ] =============================");
+        storage.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.saveit.commons.core;
+
+/**
+ * The formats the data file can be saved in.
+ */
+public enum DataFileFormat {
+    // Readable, and can be exchanged with other programs.
+    JSON,
+    // Smaller and faster to read and write.
+    BINARY
+}
@@ -1,17 +1,50 @@
 package seedu.saveit.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String COMPRESSED_FILE_SUFFIX = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Files smaller than this are read into memory, as mapping them costs more than it saves.
+    private static final long MAPPING_THRESHOLD = 1024 * 1024;
+    // A mapped file cannot be replaced on Windows until it is unmapped, which only happens when its buffer is
+    // garbage collected, so files are never mapped there.
+    private static final boolean CAN_REPLACE_MAPPED_FILES =
+            !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +106,199 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Opens the file for reading. A file compressed with gzip, as told by its first bytes rather than its name,
+     * is decompressed as it is read, so that it never has to be held in memory as a whole.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int firstByte = in.read();
+            int secondByte = in.read();
+            in.reset();
+            if (firstByte != -1 && secondByte != -1 && (firstByte | (secondByte << 8)) == GZIPInputStream.GZIP_MAGIC) {
+                return new GZIPInputStream(in, READ_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the contents of the file as a read-only buffer. Large files are mapped into memory instead of
+     * being read, so that only the parts of them that are used are read from disk.
+     * A mapped file must only be replaced, as {@link #writeToFileAtomically(Path, ContentWriter)} does,
+     * and never changed in place while its buffer is in use.
+     * Assumes file exists
+     */
+    public static ByteBuffer readBufferFromFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be read: " + file);
+            }
+            if (size >= MAPPING_THRESHOLD && CAN_REPLACE_MAPPED_FILES) {
+                // The mapping stays valid after the channel is closed.
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Reads until the buffer is full or the file ends.
+            }
+            buffer.flip();
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Writes given string to a file, as {@link #writeToFileAtomically(Path, ContentWriter)} does.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Returns true if {@code file} is named as a file compressed with gzip, such as {@code saveit.json.gz}.
+     */
+    public static boolean isCompressedFileName(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns a writer of the contents given by {@code writer}, compressed with gzip as they are written.
+     */
+    public static ContentWriter compressing(ContentWriter writer) {
+        return out -> {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+            // The compressed stream has to stay open until it is finished, even if the writer closes the stream.
+            writer.writeTo(new FilterOutputStream(compressed) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    compressed.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            });
+            compressed.finish();
+        };
+    }
+
+    /**
+     * Returns the file the previous contents of {@code file} are kept in when it is written.
+     */
+    public static Path getBackupFile(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the contents given by {@code writer} to a temporary file next to {@code file}, forces it to the
+     * storage device, then moves it over {@code file} in one step, so that a crash while writing leaves either
+     * the previous or the new contents. Each write has its own temporary file, so that writers of the same file
+     * never write to the same temporary file. The contents are streamed to the file, so they never have to be held
+     * in memory as a whole.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        writeToFileAtomically(file, writer, false);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but the previous contents of {@code file},
+     * if any, are kept in its backup file.
+     */
+    public static void writeToFileKeepingBackup(Path file, ContentWriter writer) throws IOException {
+        writeToFileAtomically(file, writer, true);
+    }
+
+    private static void writeToFileAtomically(Path file, ContentWriter writer, boolean keepsBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName() + ".", TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The channel has to stay open until it is forced, even if the writer closes the stream.
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFile);
+            throw ioe;
+        }
+
+        try {
+            if (keepsBackup && isFileExists(file)) {
+                backUp(file);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFile);
+            throw ioe;
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Keeps the current contents of {@code file} in its backup file, by linking the backup file to the contents
+     * where the file system allows it, so that they do not have to be copied.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupFile(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the storage device, so that a file moved into it stays there
+     * after a crash. Does nothing on platforms where directories cannot be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // Directories cannot be opened on all platforms; the move is still atomic there.
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file, and forces it to the storage device before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
     }
 
 }
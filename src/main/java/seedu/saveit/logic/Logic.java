@@ -1,6 +1,7 @@
 package seedu.saveit.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.GuiSettings;
@@ -27,6 +28,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told of the failures to save the data that happen after the command that saved it
+     * has returned, as the data is written in the background. It may be called on another thread.
+     *
+     * @param saveFailureHandler takes the message to show to the user.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     ReportCommandResult executeReportWindowCommand(String commandText) throws CommandException, ParseException;
 
     /**
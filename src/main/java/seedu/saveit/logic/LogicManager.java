@@ -1,7 +1,10 @@
 package seedu.saveit.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -33,12 +36,22 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final TopLevelParser topLevelParser;
     private final ReportWindowParser reportWindowParser;
+    // Modification count of the account list when it was last saved, or read.
+    private long savedModificationCount;
+    // Set when a save written in the background fails, so that the next command saves again.
+    private volatile boolean hasFailedToSave;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         topLevelParser = new TopLevelParser();
         reportWindowParser = new ReportWindowParser();
+        savedModificationCount = model.getAccountListModificationCount();
+        storage.setSaveFailureHandler(ioe -> {
+            hasFailedToSave = true;
+            saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+        });
     }
 
     @Override
@@ -49,15 +62,27 @@ public class LogicManager implements Logic {
         Command command = topLevelParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveSaveIt(model.getAccountList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // Commands that only read the account list, or change what is displayed, have nothing to save.
+        long modificationCount = model.getAccountListModificationCount();
+        if (modificationCount != savedModificationCount || hasFailedToSave) {
+            hasFailedToSave = false;
+            try {
+                storage.saveSaveIt(model.getAccountList());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            savedModificationCount = modificationCount;
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     @Override
     public ReportCommandResult executeReportWindowCommand(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -7,6 +7,7 @@ import seedu.saveit.logic.commands.Command;
 import seedu.saveit.logic.commands.CommandResult;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.logic.parser.account.AccLevelParser;
+import seedu.saveit.model.AccountNotLoadedException;
 import seedu.saveit.model.Model;
 import seedu.saveit.model.MonthlySpendingCalculator;
 
@@ -32,9 +33,13 @@ public class AccCheckoutCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        if (!model.updateActiveAccount(accountName)) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    String.format(Messages.MESSAGE_INVALID_ACCOUNT_NAME, accountName)));
+        try {
+            if (!model.updateActiveAccount(accountName)) {
+                throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                        String.format(Messages.MESSAGE_INVALID_ACCOUNT_NAME, accountName)));
+            }
+        } catch (AccountNotLoadedException anle) {
+            throw new CommandException(anle.getMessage(), anle);
         }
         MonthlySpendingCalculator monthlyCalculator = model.getMonthlySpending(accountName);
         return new CommandResult(String.format(MESSAGE_CHECKOUT_SUCCESS, accountName), accountName,
@@ -6,8 +6,6 @@ import static seedu.saveit.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_INFO;
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.time.format.DateTimeFormatter;
-
 import seedu.saveit.logic.commands.Command;
 import seedu.saveit.logic.commands.CommandResult;
 import seedu.saveit.logic.commands.exceptions.CommandException;
@@ -64,7 +62,7 @@ public class ExpAddCommand extends Command {
         requireNonNull(model);
         Expenditure added = !getActiveDate ? toAdd
             : new Expenditure(toAdd.getInfo(), toAdd.getAmount(),
-                                new Date(model.getActiveDate().format(DateTimeFormatter.ISO_DATE)), toAdd.getTag());
+                                Date.fromLocalDate(model.getActiveDate()), toAdd.getTag());
         model.addExpenditure(added);
         MonthlySpendingCalculator monthlyCalculator = model.getMonthlySpending();
         return new CommandResult(String.format(MESSAGE_SUCCESS, added), monthlyCalculator.getBudget(),
@@ -103,7 +103,7 @@ public class ExpEditCommand extends Command {
         Amount updatedAmount = editExpenditureDescriptor.getAmount().orElse(expenditureToEdit.getAmount());
         Date updatedDate = editExpenditureDescriptor.getDate().orElse(expenditureToEdit.getDate());
         Tag updatedTags = editExpenditureDescriptor.getTag().orElse(expenditureToEdit.getTag());
-        return new Expenditure(updatedInfo, updatedAmount, updatedDate, updatedTags);
+        return new Expenditure(expenditureToEdit.getId(), updatedInfo, updatedAmount, updatedDate, updatedTags);
     }
 
     @Override
@@ -103,8 +103,8 @@ public class RepeatEditCommand extends Command {
         Date updatedEndDate = editRepeatDescriptor.getEndDate().orElse(repeatToEdit.getEndDate());
         Tag updatedTags = editRepeatDescriptor.getTag().orElse(repeatToEdit.getTag());
         Period updatedPeriod = editRepeatDescriptor.getPeriod().orElse(repeatToEdit.getPeriod());
-        return new Repeat(updatedInfo, updatedAmount, updatedStartDate, updatedEndDate, updatedTags,
-                updatedPeriod.toString());
+        return new Repeat(repeatToEdit.getId(), updatedInfo, updatedAmount, updatedStartDate, updatedEndDate,
+                updatedTags, updatedPeriod.toString());
     }
 
     @Override
@@ -1,18 +1,16 @@
 package seedu.saveit.logic.commands.report;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
 import seedu.saveit.model.Model;
 import seedu.saveit.model.ReportableAccount;
-import seedu.saveit.model.expenditure.Date;
-import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Amount;
 import seedu.saveit.model.expenditure.Repeat;
 import seedu.saveit.model.expenditure.Tag;
-import seedu.saveit.model.expenditure.UniqueExpenditureList;
 import seedu.saveit.model.report.Report;
 
 
@@ -37,35 +35,24 @@ public class GenerateStats {
     public HashMap<Tag, Double> generateStatsByTags() {
 
         ReportableAccount acct = model.getReportableAccount();
-        Map expenditures = acct.getExpFromToInclusive(report.getStartDate(), report.getEndDate());
-        Set keySet = expenditures.keySet();
+        Map<Tag, Map<YearMonth, Long>> expenditures = acct.getExpTotalsByTagAndMonth(report.getStartDate(),
+                report.getEndDate());
         HashMap<Tag, Double> output = new HashMap<>();
 
-        Iterator itr = keySet.iterator();
-
-        while (itr.hasNext()) {
-
-            UniqueExpenditureList list = (UniqueExpenditureList) expenditures.get(itr.next());
-            Iterator listItr = list.iterator();
-
-            while (listItr.hasNext()) {
+        for (Tag tag : expenditures.keySet()) {
 
-                Expenditure current = (Expenditure) listItr.next();
+            long cents = 0;
 
-                if (current.getAmount().value == 0) {
-                    continue;
-                }
-
-                Tag tag = current.getTag();
-
-                if (output.containsKey(tag)) {
-                    output.replace(tag, output.get(tag) + current.getAmount().value);
-                } else {
-                    output.put(tag, current.getAmount().value);
-                }
+            for (long monthCents : expenditures.get(tag).values()) {
+                cents += monthCents;
+            }
 
+            if (cents == 0) {
+                continue;
             }
 
+            output.put(tag, Amount.toDollars(cents));
+
         }
 
         Map repeats = acct.getRepeatExpFromToInclusiveByRepeat(report.getStartDate(), report.getEndDate());
@@ -99,32 +86,21 @@ public class GenerateStats {
 
 
         ReportableAccount acct = model.getReportableAccount();
-        Map<Date, UniqueExpenditureList> expenditures = acct.getExpFromToInclusive(report.getStartDate(),
-                report.getEndDate());
-
-        for (Date date : expenditures.keySet()) {
-
-            UniqueExpenditureList list = expenditures.get(date);
-            Iterator listItr = list.iterator();
-
-            while (listItr.hasNext()) {
-
-                Expenditure current = (Expenditure) listItr.next();
-
-                if (current.getAmount().value == 0.0) {
-                    continue;
-                }
+        LocalDate startDate = report.getStartDate().getLocalDate();
+        LocalDate endDate = report.getEndDate().getLocalDate();
+        YearMonth month = YearMonth.from(startDate);
 
-                String month = String.valueOf(YearMonth.from(date.localDate));
+        while (!month.isAfter(YearMonth.from(endDate))) {
 
-                if (output.containsKey(month)) {
-                    output.replace(month, output.get(month) + current.getAmount().value);
-                } else {
-                    output.put(month, current.getAmount().value);
-                }
+            LocalDate from = startDate.isAfter(month.atDay(1)) ? startDate : month.atDay(1);
+            LocalDate to = endDate.isBefore(month.atEndOfMonth()) ? endDate : month.atEndOfMonth();
+            long cents = acct.getExpTotalFromToInclusive(from, to);
 
+            if (cents != 0) {
+                output.put(String.valueOf(month), Amount.toDollars(cents));
             }
 
+            month = month.plusMonths(1);
         }
 
 
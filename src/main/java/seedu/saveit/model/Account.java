@@ -4,26 +4,35 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.IllegalValueException;
 import seedu.saveit.logic.parser.ParserUtil;
 import seedu.saveit.logic.parser.exceptions.ParseException;
 import seedu.saveit.model.budget.Budget;
 import seedu.saveit.model.budget.BudgetMap;
+import seedu.saveit.model.budget.ReadOnlyBudgetMap;
 import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.model.expenditure.BaseExp;
 import seedu.saveit.model.expenditure.Date;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
+import seedu.saveit.model.expenditure.RepeatIntervalIndex;
+import seedu.saveit.model.expenditure.Tag;
 import seedu.saveit.model.expenditure.UniqueExpenditureList;
 import seedu.saveit.model.expenditure.exceptions.RepeatNotFoundException;
 
@@ -33,11 +42,22 @@ import seedu.saveit.model.expenditure.exceptions.RepeatNotFoundException;
  */
 public class Account implements ReadOnlyAccount, ReportableAccount {
 
-    private final UniqueExpenditureList expenditures;
-    private final BudgetMap budgetList;
+    private static final Logger logger = LogsCenter.getLogger(Account.class);
+
+    private UniqueExpenditureList expenditures;
+    private BudgetMap budgetList;
     private ObservableList<Repeat> repeats;
-    private final String accountName;
+    private RepeatIntervalIndex repeatIndex;
+    // Position of each repeat in the repeat list, by the id of the repeat.
+    private HashMap<Long, Integer> repeatPositions;
+    private String accountName;
     private MonthlySpendingCalculator calculator;
+    // Total spending of each month, kept up to date on every expenditure and repeat change.
+    private HashMap<YearMonth, Long> monthlySpending;
+    // Accounts copied from one another share the stores above, and their history, until one of them is modified.
+    private SharedStores sharedStores;
+    // Loads the contents of this account when they are first used, if they have not been loaded yet.
+    private AccountLoader pendingLoader;
 
      /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -48,7 +68,11 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */ {
         expenditures = new UniqueExpenditureList();
         repeats = FXCollections.observableArrayList();
+        repeatIndex = new RepeatIntervalIndex();
+        repeatPositions = new HashMap<>();
         budgetList = new BudgetMap();
+        monthlySpending = new HashMap<>();
+        sharedStores = new SharedStores();
     }
 
     public Account() {
@@ -59,20 +83,163 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
         this.accountName = accountName;
     }
 
+    /**
+     * Creates an account named {@code accountName} whose contents are only loaded by {@code loader}
+     * when they are first used.
+     */
+    public Account(String accountName, AccountLoader loader) {
+        requireNonNull(loader);
+        this.accountName = accountName;
+        pendingLoader = loader;
+    }
 
     /**
-     * Creates an Account using the Expenditures in the {@code toBeCopied}
+     * Creates a copy of this account with the name {@code newName}.
+     * The copy shares the expenditures, repeats and budgets of this account until either account is modified,
+     * so copying takes constant time.
      */
     public Account copyAccountWithNewName(String newName) {
-        Account toBeCopied = new Account(newName);
-        toBeCopied.resetData(this);
-        return toBeCopied;
+        Account copy;
+        if (pendingLoader != null) {
+            copy = new Account(newName, pendingLoader);
+        } else {
+            copy = new Account(newName);
+            copy.takeStoresOf(this);
+        }
+        copy.sharedStores = sharedStores;
+        sharedStores.addAccount();
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this account whose contents are loaded by {@code contents}, which must supply the contents
+     * of this account as they are now.
+     * The copy is never modified and shares nothing this account modifies, so it can be read on another thread
+     * while this account keeps being modified, without this account having to copy its stores.
+     * It has the version of this account, and tells the same changes since earlier versions.
+     */
+    public Account snapshotWith(AccountLoader contents) {
+        requireNonNull(contents);
+        Account snapshot = new Account(accountName, contents);
+        snapshot.sharedStores = sharedStores.freeze();
+        return snapshot;
+    }
+
+    /**
+     * Stops this account from sharing its stores with the accounts it was copied from or to,
+     * so that they do not have to copy the stores when they are next modified.
+     * This account must not be used afterwards.
+     */
+    public void discard() {
+        sharedStores.removeAccount();
+    }
+
+    /**
+     * Returns true if the contents of this account have been loaded.
+     */
+    public boolean isLoaded() {
+        return pendingLoader == null;
+    }
+
+    /**
+     * Returns the loader of the contents of this account, if they have not been loaded yet.
+     */
+    public Optional<AccountLoader> getPendingLoader() {
+        return Optional.ofNullable(pendingLoader);
+    }
+
+    /**
+     * Loads the contents of this account if they have not been loaded yet.
+     * An account whose contents cannot be loaded keeps its loader, so that it is not saved empty
+     * and the load can be retried.
+     *
+     * @throws AccountNotLoadedException if the contents of the account cannot be loaded.
+     */
+    void ensureLoaded() {
+        if (pendingLoader == null) {
+            return;
+        }
+        try {
+            takeStoresOf(pendingLoader.load());
+        } catch (IllegalValueException ive) {
+            logger.warning("Data of account " + accountName + " is not in the correct format: " + ive.getMessage());
+            throw new AccountNotLoadedException(accountName, ive);
+        }
+        pendingLoader = null;
+    }
+
+    /**
+     * Makes this account use the stores of {@code source}. The history of this account is kept.
+     */
+    private void takeStoresOf(Account source) {
+        expenditures = source.expenditures;
+        budgetList = source.budgetList;
+        repeats = source.repeats;
+        repeatIndex = source.repeatIndex;
+        repeatPositions = source.repeatPositions;
+        monthlySpending = source.monthlySpending;
     }
 
     public String getAccountName() {
         return accountName;
     }
 
+    /**
+     * Changes the name of this account. The data of the account is left untouched.
+     */
+    void rename(String newName) {
+        requireNonNull(newName);
+        accountName = newName;
+    }
+
+    /**
+     * Returns the version of the contents of this account, which changes whenever the expenditures, repeats
+     * or budgets of the account are modified. Renaming the account does not change its version.
+     */
+    public Version getVersion() {
+        return sharedStores.getVersion();
+    }
+
+    /**
+     * Returns the entries and budgets that were changed since this account was at {@code version},
+     * or an empty {@code Optional} if that is not known. This happens if the account was never at
+     * {@code version}, if it was replaced as a whole since, or if it was modified too many times since.
+     */
+    public Optional<Changes> getChangesSince(Version version) {
+        requireNonNull(version);
+        return sharedStores.getChangesSince(version);
+    }
+
+    /**
+     * Returns the expenditure or repeat with the given {@code id}, if it is in this account.
+     */
+    public Optional<BaseExp> getEntryById(long id) {
+        ensureLoaded();
+        Optional<Expenditure> expenditure = expenditures.getById(id);
+        if (expenditure.isPresent()) {
+            return Optional.of(expenditure.get());
+        }
+        Integer position = repeatPositions.get(id);
+        return position == null ? Optional.empty() : Optional.of(repeats.get(position));
+    }
+
+    /**
+     * Gives this account its own copies of the stores it shares with other accounts, before it modifies them.
+     */
+    private void ensureOwnStores() {
+        ensureLoaded();
+        if (!sharedStores.removeAccountIfShared()) {
+            return;
+        }
+        sharedStores = sharedStores.fork();
+        expenditures = new UniqueExpenditureList(expenditures.asUnmodifiableObservableList());
+        budgetList = new BudgetMap(budgetList);
+        repeats = FXCollections.observableArrayList(repeats);
+        repeatIndex = new RepeatIntervalIndex(repeatIndex);
+        repeatPositions = new HashMap<>(repeatPositions);
+        monthlySpending = new HashMap<>(monthlySpending);
+    }
+
     //// list overwrite operations
 
     /**
@@ -81,7 +248,10 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
 
     public void setExpenditures(List<Expenditure> expenditures) {
+        ensureOwnStores();
         this.expenditures.setExpenditures(expenditures);
+        recalculateMonthlySpending();
+        sharedStores.recordReplacement();
     }
 
     /**
@@ -89,8 +259,13 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
     public void resetData(ReadOnlyAccount newData) {
         requireNonNull(newData);
+        ensureOwnStores();
+        repeats.setAll(newData.getRepeatList());
+        repeatIndex.clear();
+        repeats.forEach(repeatIndex::add);
+        repeatPositions.clear();
+        updateRepeatPositionsFrom(0);
         setExpenditures(newData.getExpenditureList());
-        repeats.setAll(new ArrayList<>());
     }
 
     //// expenditure-level operations
@@ -100,6 +275,7 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
 
     public boolean hasExpenditure(Expenditure expenditure) {
+        ensureLoaded();
         requireNonNull(expenditure);
         return expenditures.contains(expenditure);
     }
@@ -110,14 +286,22 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      * The expenditure must not already exist in the address book.
      */
     public void addExpenditure(Expenditure expenditure) {
+        ensureOwnStores();
         expenditures.add(expenditure);
+        updateMonthlySpending(expenditure, 1);
+        sharedStores.record(expenditure.getId());
     }
 
     /**
      * Adds a repeat to the repeatList.
      */
     public void addRepeat(Repeat repeat) {
+        ensureOwnStores();
         repeats.add(repeat);
+        repeatIndex.add(repeat);
+        repeatPositions.put(repeat.getId(), repeats.size() - 1);
+        updateMonthlySpending(repeat, 1);
+        sharedStores.record(repeat.getId());
     }
 
     /**
@@ -128,8 +312,13 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
     public void setExpenditure(Expenditure target, Expenditure editedExpenditure) {
         requireNonNull(editedExpenditure);
+        ensureOwnStores();
 
-        expenditures.setExpenditure(target, editedExpenditure);
+        long replacedId = expenditures.setExpenditure(target, editedExpenditure);
+        updateMonthlySpending(target, -1);
+        updateMonthlySpending(editedExpenditure, 1);
+        sharedStores.record(replacedId);
+        sharedStores.record(editedExpenditure.getId());
     }
 
     /**
@@ -140,7 +329,21 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
     public void setRepeat(Repeat target, Repeat editedRepeat) {
         requireNonNull(editedRepeat);
-        repeats.set(repeats.indexOf(target), editedRepeat);
+        ensureOwnStores();
+        int index = indexOfRepeat(target);
+        if (index == -1) {
+            throw new RepeatNotFoundException();
+        }
+        long replacedId = repeats.get(index).getId();
+        repeatPositions.remove(replacedId, index);
+        repeatIndex.remove(repeats.get(index));
+        repeats.set(index, editedRepeat);
+        repeatIndex.add(editedRepeat);
+        repeatPositions.put(editedRepeat.getId(), index);
+        updateMonthlySpending(target, -1);
+        updateMonthlySpending(editedRepeat, 1);
+        sharedStores.record(replacedId);
+        sharedStores.record(editedRepeat.getId());
     }
 
     /**
@@ -148,16 +351,50 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      * {@code key} must exist.
      */
     public void removeExpenditure(Expenditure key) {
-        expenditures.remove(key);
+        ensureOwnStores();
+        long removedId = expenditures.remove(key);
+        updateMonthlySpending(key, -1);
+        sharedStores.record(removedId);
     }
 
     /**
      * Removes {@code Repeat} from this {@code repeatItem}.
      */
     public void removeRepeat(Repeat repeat) {
-        if (!repeats.remove(repeat)) {
+        ensureOwnStores();
+        int index = indexOfRepeat(repeat);
+        if (index == -1) {
             throw new RepeatNotFoundException();
         }
+        long removedId = repeats.get(index).getId();
+        repeatPositions.remove(removedId, index);
+        repeatIndex.remove(repeats.get(index));
+        repeats.remove(index);
+        updateRepeatPositionsFrom(index);
+        updateMonthlySpending(repeat, -1);
+        sharedStores.record(removedId);
+    }
+
+    /**
+     * Returns the position of a repeat in the repeat list that is equal to {@code repeat}, or -1 if there is none.
+     * The repeat with the same id is checked first, so looking up a repeat taken from this account does not
+     * compare it with every other repeat.
+     */
+    private int indexOfRepeat(Repeat repeat) {
+        Integer sameId = repeatPositions.get(repeat.getId());
+        if (sameId != null && repeats.get(sameId).equals(repeat)) {
+            return sameId;
+        }
+        return repeats.indexOf(repeat);
+    }
+
+    /**
+     * Records the positions of the repeats from {@code index} to the end of the repeat list.
+     */
+    private void updateRepeatPositionsFrom(int index) {
+        for (int i = index; i < repeats.size(); i++) {
+            repeatPositions.put(repeats.get(i).getId(), i);
+        }
     }
 
     /**
@@ -167,14 +404,18 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      */
     public void setBudget(Budget budget) {
         requireNonNull(budget);
+        ensureOwnStores();
         //This can be used to change the budget too.
         this.budgetList.setBudget(budget);
+        sharedStores.record(budget.getYearMonth());
     }
 
     public void setBudget(YearMonth yearMonth, Amount amount) {
         requireNonNull(yearMonth);
         requireNonNull(amount);
+        ensureOwnStores();
         this.budgetList.setBudget(new Budget(yearMonth, amount));
+        sharedStores.record(yearMonth);
     }
 
     /**
@@ -185,6 +426,7 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      * Else return a budget object with 0 amount.
      */
     public Double getBudget(YearMonth yearMonth) {
+        ensureLoaded();
         requireNonNull(yearMonth);
         return budgetList.get(yearMonth);
     }
@@ -206,39 +448,44 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
         }
     }
 
-    public BudgetMap getBudgetList() {
+    /**
+     * Returns an unmodifiable view of the budgets of this account.
+     */
+    public ReadOnlyBudgetMap getBudgetList() {
+        ensureLoaded();
         return budgetList;
     }
 
 
     private void setCalculator(YearMonth givenYearMonth) {
-        this.calculator = new MonthlySpendingCalculator(getBudget(givenYearMonth), expenditures, repeats,
-                givenYearMonth);
+        this.calculator = new MonthlySpendingCalculator(getBudget(givenYearMonth),
+                Amount.toDollars(monthlySpending.getOrDefault(givenYearMonth, 0L)));
     }
 
-
     /**
-     * Calculate total expenditure amount for a given YearMonth.
-     *
-     * @param givenYearMonth target YearMonth.
-     * @return a double which the total amount for all the expenditure.
+     * Adds {@code sign} times the amount of {@code expenditure} to the total of its month.
      */
-    private double calculateMonthlyExpenditure(YearMonth givenYearMonth) {
-        return this.expenditures.calculateExpenditureAmount(givenYearMonth);
+    private void updateMonthlySpending(Expenditure expenditure, int sign) {
+        monthlySpending.merge(YearMonth.from(expenditure.getDate().getLocalDate()),
+                sign * expenditure.getAmount().cents, Long::sum);
     }
 
     /**
-     * Calculate total repeat amount for a given YearMonth.
-     *
-     * @param givenYearMonth target YearMonth.
-     * @return a double which the total amount for all the repeat.
+     * Adds {@code sign} times the spending of {@code repeat} to the total of every month it spans.
      */
-    private double calculateMonthlyRepeat(YearMonth givenYearMonth) {
-        double total = 0;
-        for (int i = 0; i < repeats.size(); i++) {
-            total += this.repeats.get(i).calculateForGivenYearMonth(givenYearMonth);
+    private void updateMonthlySpending(Repeat repeat, int sign) {
+        YearMonth current = YearMonth.from(repeat.getStartDate().getLocalDate());
+        YearMonth last = YearMonth.from(repeat.getEndDate().getLocalDate());
+        while (!current.isAfter(last)) {
+            monthlySpending.merge(current, sign * repeat.calculateCentsForGivenYearMonth(current), Long::sum);
+            current = current.plusMonths(1);
         }
-        return total;
+    }
+
+    private void recalculateMonthlySpending() {
+        monthlySpending.clear();
+        expenditures.forEach(expenditure -> updateMonthlySpending(expenditure, 1));
+        repeats.forEach(repeat -> updateMonthlySpending(repeat, 1));
     }
 
     /**
@@ -248,6 +495,7 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
      * @return a double which the total amount.
      */
     public MonthlySpendingCalculator calculateMonthly(YearMonth givenYearMonth) {
+        ensureLoaded();
         setCalculator(givenYearMonth);
         return this.calculator;
     }
@@ -261,11 +509,13 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
 
     @Override
     public ObservableList<Expenditure> getExpenditureList() {
+        ensureLoaded();
         return expenditures.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Repeat> getRepeatList() {
+        ensureLoaded();
         return FXCollections.unmodifiableObservableList(repeats);
     }
 
@@ -274,40 +524,42 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
         return other == this // short circuit if same object
                 || (other instanceof Account // instanceof handles nulls
                 && accountName.equals(((Account) other).accountName)
-                && expenditures.equals(((Account) other).expenditures)
-                && repeats.equals(((Account) other).repeats));
+                && getExpenditureList().equals(((Account) other).getExpenditureList())
+                && getRepeatList().equals(((Account) other).getRepeatList()));
     }
 
     @Override
     public int hashCode() {
+        ensureLoaded();
         return expenditures.hashCode();
     }
 
     @Override
     public ObservableList<Repeat> getRepeatByDate(LocalDate date) {
-        return FXCollections.observableArrayList(
-                repeats.stream().filter(repeat -> repeat.isOn(date)).collect(Collectors.toList()));
+        ensureLoaded();
+        return FXCollections.observableArrayList(repeatIndex.getRepeatsOverlapping(date, date).stream()
+                .filter(repeat -> repeat.isOn(date))
+                .sorted(Comparator.comparingInt(repeat -> repeatPositions.getOrDefault(repeat.getId(), 0)))
+                .collect(Collectors.toList()));
     }
 
     @Override
     public Map<Repeat, Double> getRepeatExpFromToInclusiveByRepeat(Date startDate, Date endDate) {
+        ensureLoaded();
         HashMap repMap = new HashMap();
 
-        repeats.stream().filter(repeat -> Date.isEqualOrAfter(repeat.getEndDate(), startDate)
-                && Date.isEqualOrBefore(repeat.getStartDate(), endDate)
-        ).forEach(repeat -> {
-                    if (repeat.getPeriod() == Repeat.Period.DAILY) {
-                        double amt = repeat.calculateDaily(startDate, endDate);
-                        repMap.put(repeat, amt);
-
-                    } else if (repeat.getPeriod() == Repeat.Period.WEEKLY
-                            || repeat.getPeriod() == Repeat.Period.MONTHLY
-                            || repeat.getPeriod() == Repeat.Period.ANNUALLY) {
-                        double amt = repeat.calculateWkOrMthOrYr(startDate, endDate);
-                        repMap.put(repeat, amt);
-                    }
-                }
-        );
+        repeatIndex.getRepeatsOverlapping(startDate.getLocalDate(), endDate.getLocalDate()).forEach(repeat -> {
+            if (repeat.getPeriod() == Repeat.Period.DAILY) {
+                double amt = repeat.calculateDaily(startDate, endDate);
+                repMap.put(repeat, amt);
+
+            } else if (repeat.getPeriod() == Repeat.Period.WEEKLY
+                    || repeat.getPeriod() == Repeat.Period.MONTHLY
+                    || repeat.getPeriod() == Repeat.Period.ANNUALLY) {
+                double amt = repeat.calculateWkOrMthOrYr(startDate, endDate);
+                repMap.put(repeat, amt);
+            }
+        });
 
 
         return repMap;
@@ -315,52 +567,50 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
 
     @Override
     public Map<String, Double> getRepeatExpFromToInclusiveByMonth(Date startDate, Date endDate) {
+        ensureLoaded();
         HashMap<String, Double> repMap = new HashMap();
-        repeats.stream().filter(repeat -> Date.isEqualOrAfter(repeat.getEndDate(), startDate)
-                && Date.isEqualOrBefore(repeat.getStartDate(), endDate)
-        ).forEach(repeat -> {
+        repeatIndex.getRepeatsOverlapping(startDate.getLocalDate(), endDate.getLocalDate()).forEach(repeat -> {
 
-                    HashMap<String, Double> monthlyExpenditures = null;
+            HashMap<String, Double> monthlyExpenditures = null;
 
-                    if (repeat.getPeriod() == Repeat.Period.DAILY) {
-                        monthlyExpenditures = repeat.calculateDailyRepeatMonth(startDate, endDate);
+            if (repeat.getPeriod() == Repeat.Period.DAILY) {
+                monthlyExpenditures = repeat.calculateDailyRepeatMonth(startDate, endDate);
 
-                    } else if (repeat.getPeriod() == Repeat.Period.WEEKLY
-                            || repeat.getPeriod() == Repeat.Period.MONTHLY
-                            || repeat.getPeriod() == Repeat.Period.ANNUALLY) {
-                        monthlyExpenditures = repeat.calculateWkOrMthOrYrMonth(startDate, endDate);
-                    }
+            } else if (repeat.getPeriod() == Repeat.Period.WEEKLY
+                    || repeat.getPeriod() == Repeat.Period.MONTHLY
+                    || repeat.getPeriod() == Repeat.Period.ANNUALLY) {
+                monthlyExpenditures = repeat.calculateWkOrMthOrYrMonth(startDate, endDate);
+            }
 
-                    assert monthlyExpenditures != null;
-                    for (String month : monthlyExpenditures.keySet()) {
+            assert monthlyExpenditures != null;
+            for (String month : monthlyExpenditures.keySet()) {
 
-                        if (repMap.containsKey(month)) {
-                            repMap.put(month, monthlyExpenditures.get(month) + repMap.get(month));
-                        } else {
-                            repMap.put(month, monthlyExpenditures.get(month));
-                        }
+                if (repMap.containsKey(month)) {
+                    repMap.put(month, monthlyExpenditures.get(month) + repMap.get(month));
+                } else {
+                    repMap.put(month, monthlyExpenditures.get(month));
+                }
 
-                    }
+            }
 
 
-                }
-        );
+        });
 
         return repMap;
     }
 
     @Override
     public UniqueExpenditureList getExpByDate(String date) {
-        return new UniqueExpenditureList(
-                getExpenditureStream()
-                        .filter(exp -> exp.getDate().toString().equals(date))
-                        .collect(Collectors.toList())
-        );
+        if (!Date.isValidDate(date)) {
+            return new UniqueExpenditureList();
+        }
+        return getExpByDate(LocalDate.parse(date, Date.FORMATTER));
     }
 
     @Override
     public UniqueExpenditureList getExpByDate(LocalDate date) {
-        return getExpByDate(date.format(DateTimeFormatter.ISO_DATE));
+        ensureLoaded();
+        return new UniqueExpenditureList(expenditures.getExpendituresOn(date));
     }
 
     @Override
@@ -370,10 +620,9 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
 
     @Override
     public Map<Date, UniqueExpenditureList> getExpFromToInclusive(Date start, Date end) {
+        ensureLoaded();
         Map<Date, UniqueExpenditureList> expMap = new HashMap<>();
-        getExpenditureStream()
-                .filter(exp -> Date.isEqualOrBefore(start, exp.getDate())
-                        && Date.isEqualOrBefore(exp.getDate(), end))
+        expenditures.getExpendituresFromToInclusive(start.getLocalDate(), end.getLocalDate())
                 .forEach(exp -> {
 
                     Date date = exp.getDate();
@@ -389,7 +638,70 @@ public class Account implements ReadOnlyAccount, ReportableAccount {
         return expMap;
     }
 
-    private Stream<Expenditure> getExpenditureStream() {
-        return StreamSupport.stream(expenditures.spliterator(), false);
+    @Override
+    public long getExpTotalFromToInclusive(LocalDate startDate, LocalDate endDate) {
+        ensureLoaded();
+        return expenditures.getTotalFromToInclusive(startDate, endDate);
+    }
+
+    @Override
+    public Map<Tag, Map<YearMonth, Long>> getExpTotalsByTagAndMonth(Date startDate, Date endDate) {
+        ensureLoaded();
+        return expenditures.getTotalsByTagAndMonth(startDate.getLocalDate(), endDate.getLocalDate());
+    }
+
+    /**
+     * Identifies the contents of an account at one point in the history of its modifications.
+     */
+    public static class Version {
+        final long historyId;
+        final long changeCount;
+
+        Version(long historyId, long changeCount) {
+            this.historyId = historyId;
+            this.changeCount = changeCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Version // instanceof handles nulls
+                    && historyId == ((Version) other).historyId
+                    && changeCount == ((Version) other).changeCount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(historyId, changeCount);
+        }
+    }
+
+    /**
+     * The ids of the expenditures and repeats, and the months of the budgets, that were added, edited or removed
+     * between two versions of an account, in the order they were first changed.
+     */
+    public static class Changes {
+        private final Set<Long> entryIds = new LinkedHashSet<>();
+        private final Set<YearMonth> budgetMonths = new LinkedHashSet<>();
+
+        public Set<Long> getEntryIds() {
+            return Collections.unmodifiableSet(entryIds);
+        }
+
+        public Set<YearMonth> getBudgetMonths() {
+            return Collections.unmodifiableSet(budgetMonths);
+        }
+
+        public boolean isEmpty() {
+            return entryIds.isEmpty() && budgetMonths.isEmpty();
+        }
+
+        void addEntryId(long entryId) {
+            entryIds.add(entryId);
+        }
+
+        void addBudgetMonth(YearMonth budgetMonth) {
+            budgetMonths.add(budgetMonth);
+        }
     }
 }
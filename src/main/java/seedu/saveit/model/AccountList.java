@@ -6,22 +6,25 @@ import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import seedu.saveit.commons.core.Messages;
 import seedu.saveit.logic.commands.account.AccDeleteCommand;
 import seedu.saveit.logic.commands.account.AccRenameCommand;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.model.budget.Budget;
-import seedu.saveit.model.budget.BudgetMap;
+import seedu.saveit.model.budget.ReadOnlyBudgetMap;
 import seedu.saveit.model.expenditure.BaseExp;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
+import seedu.saveit.model.util.DiffingObservableList;
 
 /**
  * Manages all accounts of the user.
@@ -32,9 +35,20 @@ public class AccountList implements ReadOnlyAccountList {
 
     private Map<String, Account> accounts = new HashMap<>();
     private Account activeAccount;
-    private final ObservableList<BaseExp> displayedBaseExpList = FXCollections.observableArrayList();
+    // Entries of different accounts can be equal but have different ids, so an entry is only kept displayed
+    // if the new one has the same id too. This way the displayed entries carry the ids of the active account.
+    private final DiffingObservableList<BaseExp> displayedBaseExpList =
+            new DiffingObservableList<>(AccountList::isSameEntry);
+    private final ObservableList<BaseExp> unmodifiableDisplayedBaseExpList =
+            FXCollections.unmodifiableObservableList(displayedBaseExpList);
+    private final ObservableList<Expenditure> displayedExpenditures = viewOfType(Expenditure.class);
+    private final ObservableList<Repeat> displayedRepeats = viewOfType(Repeat.class);
     private LocalDate activeDate;
     private int expAddIndex = 0;
+    // Position of each entry in the displayed list, by the id of the entry.
+    private final HashMap<Long, Integer> displayedPositions = new HashMap<>();
+    // Number of modifications of the data that is saved, which excludes the active date.
+    private long modificationCount = 0;
 
     /**
      * Creates an AccountList using the accounts in the {@code toBeCopied}
@@ -60,6 +74,30 @@ public class AccountList implements ReadOnlyAccountList {
         activeDate = LocalDate.now();
     }
 
+    /**
+     * Returns an account list of only {@code account}, which is made active without being loaded.
+     * Nothing is displayed by the account list, as it is meant to be saved.
+     */
+    public static AccountList of(Account account) {
+        requireNonNull(account);
+        AccountList accountList = new AccountList(false);
+        accountList.addAccount(account);
+        accountList.activeAccount = account;
+        return accountList;
+    }
+
+    /**
+     * Returns an account list of {@code accounts}, in which the account named {@code activeAccountName} is made
+     * active without being loaded. Nothing is displayed by the account list, as it is meant to be saved.
+     */
+    public static AccountList of(Collection<Account> accounts, String activeAccountName) {
+        requireAllNonNull(accounts, activeAccountName);
+        AccountList accountList = new AccountList(false);
+        accounts.forEach(accountList::addAccount);
+        accountList.activeAccount = accountList.accounts.get(activeAccountName);
+        return accountList;
+    }
+
     private void createDefaultAccount() {
         activeAccount = new Account(DEFAULT_ACCOUNT_NAME);
         addAccount(activeAccount);
@@ -74,13 +112,15 @@ public class AccountList implements ReadOnlyAccountList {
     public void resetData(ReadOnlyAccountList newData) {
         requireNonNull(newData);
         setAccounts(newData.getAccounts());
+        modificationCount++;
     }
 
     private void setAccounts(Map<String, Account> accountHashMap) {
         requireAllNonNull(accountHashMap);
         accounts = new HashMap<>();
+        // Copies share their data with the given accounts until either is modified, so this stays cheap.
         for (Map.Entry<String, Account> entry : accountHashMap.entrySet()) {
-            accounts.put(entry.getKey(), entry.getValue());
+            accounts.put(entry.getKey(), entry.getValue().copyAccountWithNewName(entry.getKey()));
         }
     }
 
@@ -126,12 +166,11 @@ public class AccountList implements ReadOnlyAccountList {
                     "The account with the specified name " + newName + " already exists\n"
                     + AccRenameCommand.MESSAGE_USAGE));
         }
-        Account targetAccount = accounts.get(oldName);
-        Account replaceAccount = targetAccount.copyAccountWithNewName(newName);
-        this.accounts.put(newName, replaceAccount);
-        this.accounts.remove(oldName, targetAccount);
+        Account targetAccount = this.accounts.remove(oldName);
+        targetAccount.rename(newName);
+        this.accounts.put(newName, targetAccount);
+        modificationCount++;
         if (renameActiveAccount) {
-            updateActiveAccount(newName);
             return newName;
         } else {
             return this.activeAccount.getAccountName();
@@ -140,8 +179,11 @@ public class AccountList implements ReadOnlyAccountList {
 
     /**
      * Delete an account for the accounts base on the input name.
+     * If the active account is deleted, the first other account that can be loaded becomes active.
      * @param accName the target account's name
      * @return a new account name which is to replace
+     * @throws CommandException if the account does not exist, or if it is active and none of the other
+     *     accounts can be loaded.
      */
     public String deleteAccount(String accName) throws CommandException {
         requireAllNonNull(accName);
@@ -150,24 +192,50 @@ public class AccountList implements ReadOnlyAccountList {
                     String.format(Messages.MESSAGE_INVALID_ACCOUNT_NAME, accName) + "\n"
                             + AccDeleteCommand.MESSAGE_USAGE));
         }
+        boolean deleteActiveAccount = this.activeAccount.getAccountName().equals(accName);
+        String replacementName = deleteActiveAccount && this.accounts.size() > 1
+                ? findLoadableAccountOtherThan(accName)
+                : null;
         Account target = this.accounts.get(accName);
         this.accounts.remove(accName, target);
+        modificationCount++;
         if (this.accounts.size() == 0) {
             Account defaultAccount = new Account("default");
             addAccount(defaultAccount);
             updateActiveAccount(defaultAccount.getAccountName());
             return defaultAccount.getAccountName();
         } else {
-            if (this.activeAccount.getAccountName().equals(accName)) {
-                String firstKey = (String) (this.accounts.keySet().toArray())[0];
-                updateActiveAccount(this.accounts.get(firstKey).getAccountName());
-                return this.accounts.get(firstKey).getAccountName();
+            if (deleteActiveAccount) {
+                updateActiveAccount(replacementName);
+                return replacementName;
             }
             //no change
             return this.activeAccount.getAccountName();
         }
     }
 
+    /**
+     * Returns the name of the first account other than {@code accName} whose contents can be loaded,
+     * loading it if needed.
+     *
+     * @throws CommandException if none of the other accounts can be loaded.
+     */
+    private String findLoadableAccountOtherThan(String accName) throws CommandException {
+        AccountNotLoadedException lastFailure = null;
+        for (Account account : this.accounts.values()) {
+            if (account.getAccountName().equals(accName)) {
+                continue;
+            }
+            try {
+                account.ensureLoaded();
+                return account.getAccountName();
+            } catch (AccountNotLoadedException anle) {
+                lastFailure = anle;
+            }
+        }
+        throw new CommandException(lastFailure.getMessage(), lastFailure);
+    }
+
 
     /**
      * Adds an account to the account list.
@@ -179,6 +247,7 @@ public class AccountList implements ReadOnlyAccountList {
             throw new DuplicateAccountException();
         }
         accounts.put(account.getAccountName(), account);
+        modificationCount++;
     }
 
     /**
@@ -188,16 +257,18 @@ public class AccountList implements ReadOnlyAccountList {
         expAddIndex = 0;
         activeAccount.resetData(new Account());
         displayedBaseExpList.setAll(new ArrayList<>());
+        displayedPositions.clear();
+        modificationCount++;
     }
 
     //// expenditure-level operations
 
     /**
-     * Returns true if a expenditure with the same identity as {@code expenditure} exists in the internal list.
+     * Returns true if a expenditure with the same identity as {@code expenditure} exists in the active account.
      */
     public boolean hasExpenditure(Expenditure expenditure) {
         requireNonNull(expenditure);
-        return displayedBaseExpList.contains(expenditure);
+        return activeAccount.hasExpenditure(expenditure);
     }
 
     /**
@@ -206,8 +277,8 @@ public class AccountList implements ReadOnlyAccountList {
      */
     public void removeExpenditure(Expenditure target) {
         activeAccount.removeExpenditure(target);
-        displayedBaseExpList.remove(target);
-        expAddIndex--;
+        removeDisplayed(target);
+        modificationCount++;
     }
 
     /**
@@ -216,7 +287,8 @@ public class AccountList implements ReadOnlyAccountList {
      */
     public void removeRepeat(Repeat target) {
         activeAccount.removeRepeat(target);
-        displayedBaseExpList.remove(target);
+        removeDisplayed(target);
+        modificationCount++;
     }
 
     /**
@@ -225,9 +297,10 @@ public class AccountList implements ReadOnlyAccountList {
     public void addExpenditure(Expenditure expenditure) {
         activeAccount.addExpenditure(expenditure);
         if (expenditure.isOn(activeDate)) {
-            displayedBaseExpList.add(expAddIndex, expenditure);
+            addDisplayed(expAddIndex, expenditure);
             expAddIndex++;
         }
+        modificationCount++;
     }
 
     /**
@@ -236,8 +309,9 @@ public class AccountList implements ReadOnlyAccountList {
     public void addRepeat(Repeat repeat) {
         activeAccount.addRepeat(repeat);
         if (repeat.isOn(activeDate)) {
-            displayedBaseExpList.add(repeat);
+            addDisplayed(displayedBaseExpList.size(), repeat);
         }
+        modificationCount++;
     }
 
     /**
@@ -250,10 +324,11 @@ public class AccountList implements ReadOnlyAccountList {
         requireAllNonNull(target, editedExpenditure);
         activeAccount.setExpenditure(target, editedExpenditure);
         if (editedExpenditure.isOn(activeDate)) {
-            displayedBaseExpList.set(displayedBaseExpList.indexOf(target), editedExpenditure);
+            setDisplayed(target, editedExpenditure);
         } else {
-            displayedBaseExpList.remove(target);
+            removeDisplayed(target);
         }
+        modificationCount++;
     }
 
     /**
@@ -266,17 +341,82 @@ public class AccountList implements ReadOnlyAccountList {
         requireAllNonNull(target, editedRepeat);
         activeAccount.setRepeat(target, editedRepeat);
         if (editedRepeat.isOn(activeDate)) {
-            displayedBaseExpList.set(displayedBaseExpList.indexOf(target), editedRepeat);
+            setDisplayed(target, editedRepeat);
         } else {
-            displayedBaseExpList.remove(target);
+            removeDisplayed(target);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the position of {@code target} in the displayed list, or -1 if it is not displayed.
+     * Entries are looked up by id first, so that an entry is told apart from others with the same fields.
+     */
+    private int indexOfDisplayed(BaseExp target) {
+        Integer position = displayedPositions.get(target.getId());
+        if (position != null && isSameEntry(displayedBaseExpList.get(position), target)) {
+            return position;
+        }
+        return displayedBaseExpList.indexOf(target);
+    }
+
+    /**
+     * Returns true if {@code entry} and {@code other} are the same entry: they have the same id and fields.
+     */
+    private static boolean isSameEntry(BaseExp entry, BaseExp other) {
+        return entry.getId() == other.getId() && entry.equals(other);
+    }
+
+    /**
+     * Displays {@code entry} at {@code index} in the displayed list.
+     */
+    private void addDisplayed(int index, BaseExp entry) {
+        displayedBaseExpList.add(index, entry);
+        updateDisplayedPositionsFrom(index);
+    }
+
+    /**
+     * Displays {@code editedEntry} in place of {@code target}, which must be displayed.
+     */
+    private void setDisplayed(BaseExp target, BaseExp editedEntry) {
+        int index = indexOfDisplayed(target);
+        BaseExp replaced = displayedBaseExpList.set(index, editedEntry);
+        displayedPositions.remove(replaced.getId(), index);
+        displayedPositions.put(editedEntry.getId(), index);
+    }
+
+    /**
+     * Removes {@code target} from the displayed list, if it is displayed.
+     */
+    private void removeDisplayed(BaseExp target) {
+        int index = indexOfDisplayed(target);
+        if (index == -1) {
+            return;
+        }
+        BaseExp removed = displayedBaseExpList.remove(index);
+        displayedPositions.remove(removed.getId(), index);
+        if (index < expAddIndex) {
+            expAddIndex--;
+        }
+        updateDisplayedPositionsFrom(index);
+    }
+
+    /**
+     * Records the positions of the displayed entries from {@code index} onwards, after they have moved.
+     * Only the repeats come after the expenditures, so this is cheap when an expenditure is added or removed.
+     */
+    private void updateDisplayedPositionsFrom(int index) {
+        for (int i = index; i < displayedBaseExpList.size(); i++) {
+            displayedPositions.put(displayedBaseExpList.get(i).getId(), i);
         }
     }
 
     public void setBudget(Budget budget) {
         activeAccount.setBudget(budget);
+        modificationCount++;
     }
 
-    public BudgetMap getBudgets() {
+    public ReadOnlyBudgetMap getBudgets() {
         return activeAccount.getBudgetList();
     }
 
@@ -301,19 +441,31 @@ public class AccountList implements ReadOnlyAccountList {
 
     /**
      * Updates the active account to the one with the specified accountName.
+     * The account is loaded first, so that the active account is left unchanged if it cannot be loaded.
      * @param accountName the name of the account
      * @return if the update was successful
+     * @throws AccountNotLoadedException if the contents of the account cannot be loaded.
      */
     public boolean updateActiveAccount(String accountName) {
         if (!accounts.containsKey(accountName)) {
             return false;
         } else {
+            accounts.get(accountName).ensureLoaded();
             activeAccount = accounts.get(accountName);
             resetFromActiveAccount();
+            modificationCount++;
             return true;
         }
     }
 
+    /**
+     * Returns the number of times the accounts, their contents or the active account have been modified.
+     * Changing the active date does not count, as it is not saved.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     public MonthlySpendingCalculator getMonthlySpending() {
         YearMonth givenYearMonth = YearMonth.from(this.activeDate);
         return this.activeAccount.calculateMonthly(givenYearMonth);
@@ -357,33 +509,41 @@ public class AccountList implements ReadOnlyAccountList {
     }
 
     /**
-     * resets the data in the displayed list and gets data from the active account
+     * resets the data in the displayed list and gets data from the active account.
+     * Only the entries that differ from the ones already displayed are replaced.
      */
     private void resetFromActiveAccount() {
-        displayedBaseExpList.setAll(new ArrayList<>());
-        displayedBaseExpList.addAll(activeAccount.getExpByDate(activeDate).asUnmodifiableObservableList());
-        expAddIndex = displayedBaseExpList.size();
-        displayedBaseExpList.addAll(activeAccount.getRepeatByDate(activeDate));
+        List<BaseExp> newDisplayed = new ArrayList<>(activeAccount.getExpByDate(activeDate)
+                .asUnmodifiableObservableList());
+        expAddIndex = newDisplayed.size();
+        newDisplayed.addAll(activeAccount.getRepeatByDate(activeDate));
+        displayedBaseExpList.update(newDisplayed);
+        displayedPositions.clear();
+        updateDisplayedPositionsFrom(0);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the entries of {@code type} in the displayed list.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends BaseExp> ObservableList<T> viewOfType(Class<T> type) {
+        // The filter only lets entries of the given type through, so the view can be treated as a list of them.
+        FilteredList<BaseExp> ofType = displayedBaseExpList.filtered(type::isInstance);
+        return FXCollections.unmodifiableObservableList((ObservableList<T>) (ObservableList<?>) ofType);
     }
 
     @Override
     public ObservableList<Expenditure> getExpenditureList() {
-        return FXCollections.unmodifiableObservableList(
-                FXCollections.observableArrayList(displayedBaseExpList.stream()
-                .filter(baseExp -> baseExp instanceof Expenditure)
-                .map(exp -> (Expenditure) exp).collect(Collectors.toList())));
+        return displayedExpenditures;
     }
 
     @Override
     public ObservableList<Repeat> getRepeatList() {
-        return FXCollections.unmodifiableObservableList(
-                FXCollections.observableArrayList(displayedBaseExpList.stream()
-                .filter(baseExp -> baseExp instanceof Repeat)
-                .map(exp -> (Repeat) exp).collect(Collectors.toList())));
+        return displayedRepeats;
     }
 
     public ObservableList<BaseExp> getBaseExpList() {
-        return FXCollections.unmodifiableObservableList(displayedBaseExpList);
+        return unmodifiableDisplayedBaseExpList;
     }
 
     @Override
@@ -0,0 +1,17 @@
+package seedu.saveit.model;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+
+/**
+ * Supplies the contents of an account that were read before they were needed.
+ */
+@FunctionalInterface
+public interface AccountLoader {
+
+    /**
+     * Returns an account with the expenditures, repeats and budgets of the account to be loaded.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Account load() throws IllegalValueException;
+}
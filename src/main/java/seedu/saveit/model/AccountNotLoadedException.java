@@ -0,0 +1,13 @@
+package seedu.saveit.model;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+
+/**
+ * Signals that the contents of an account could not be loaded when they were first used.
+ * The account keeps its loader, so that its contents are still saved as they were read.
+ */
+public class AccountNotLoadedException extends RuntimeException {
+    public AccountNotLoadedException(String accountName, IllegalValueException cause) {
+        super("Data of account " + accountName + " is not in the correct format: " + cause.getMessage(), cause);
+    }
+}
@@ -9,7 +9,7 @@ import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.GuiSettings;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.model.budget.Budget;
-import seedu.saveit.model.budget.BudgetMap;
+import seedu.saveit.model.budget.ReadOnlyBudgetMap;
 import seedu.saveit.model.expenditure.BaseExp;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
@@ -166,7 +166,7 @@ public interface Model {
     /**
      * Obtains the hashmap of the budget.
      */
-    BudgetMap getBudgets();
+    ReadOnlyBudgetMap getBudgets();
 
     /**
      * Obtains a MonthlySpendingCalculator for the current active yearMonth.
@@ -185,5 +185,11 @@ public interface Model {
      */
     MonthlySpendingCalculator getMonthlySpending(String newActiveAccount);
 
+    /**
+     * Returns the number of times the account list has been modified in a way that has to be saved.
+     * It only increases, so an unchanged count means there is nothing new to save.
+     */
+    long getAccountListModificationCount();
+
 
 }
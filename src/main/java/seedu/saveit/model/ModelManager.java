@@ -15,7 +15,7 @@ import seedu.saveit.commons.core.GuiSettings;
 import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.model.budget.Budget;
-import seedu.saveit.model.budget.BudgetMap;
+import seedu.saveit.model.budget.ReadOnlyBudgetMap;
 import seedu.saveit.model.expenditure.BaseExp;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
@@ -226,7 +226,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public BudgetMap getBudgets() {
+    public ReadOnlyBudgetMap getBudgets() {
         return this.accountList.getBudgets();
     }
 
@@ -245,6 +245,11 @@ public class ModelManager implements Model {
         return this.accountList.getMonthlySpending(newActiveAccount);
     }
 
+    @Override
+    public long getAccountListModificationCount() {
+        return accountList.getModificationCount();
+    }
+
     @Override
     public void addAccount(Account account) throws CommandException {
         try {
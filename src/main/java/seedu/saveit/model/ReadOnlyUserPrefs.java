@@ -2,6 +2,7 @@ package seedu.saveit.model;
 
 import java.nio.file.Path;
 
+import seedu.saveit.commons.core.DataFileFormat;
 import seedu.saveit.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getDataFileFormat();
+
 }
@@ -1,12 +1,14 @@
 package seedu.saveit.model;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Map;
 
 import javafx.collections.ObservableList;
 
 import seedu.saveit.model.expenditure.Date;
 import seedu.saveit.model.expenditure.Repeat;
+import seedu.saveit.model.expenditure.Tag;
 import seedu.saveit.model.expenditure.UniqueExpenditureList;
 
 
@@ -42,6 +44,22 @@ public interface ReportableAccount {
      */
     Map<Date, UniqueExpenditureList> getExpFromToInclusive(Date startDate, Date endDate);
 
+    /**
+     * returns the total amount of expenditures in the interval specified
+     * @param startDate the inclusive start date
+     * @param endDate the inclusive end date
+     * @return the total amount in cents
+     */
+    long getExpTotalFromToInclusive(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * returns total expenditures in the interval specified
+     * @param startDate the inclusive start date
+     * @param endDate the inclusive end date
+     * @return a Map of key: tag & value: Map of key: month & value: total amount in cents
+     */
+    Map<Tag, Map<YearMonth, Long>> getExpTotalsByTagAndMonth(Date startDate, Date endDate);
+
     /**
      * @param date the date
      * @return a list containing the repeats on that date
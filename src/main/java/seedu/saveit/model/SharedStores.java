@@ -0,0 +1,178 @@
+package seedu.saveit.model;
+
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.saveit.model.Account.Changes;
+import seedu.saveit.model.Account.Version;
+
+/**
+ * What the accounts sharing the same stores have in common: how many of them there are,
+ * and the most recent changes made to the stores, including those made to the stores they were copied from.
+ */
+class SharedStores {
+    // Number of changes remembered. Callers further behind than this are told the changes are not known.
+    private static final int HISTORY_CAPACITY = 1024;
+    private static final AtomicLong nextHistoryId = new AtomicLong(1);
+
+    // Guarded by this, as accounts that stop sharing the stores may be dropped on another thread.
+    private int accountCount = 1;
+    private final long historyId;
+    private long changeCount;
+    // Ids of the entries (as Long) and months of the budgets (as YearMonth) changed, oldest first.
+    private final ArrayDeque<Object> history;
+    // Positions count every change recorded since the first stores these stores were copied from.
+    private long endPosition;
+    private final long startPosition;
+    // Position of the last change of each of the stores these stores were copied from, by the version copied.
+    private final Map<Version, Long> forkPositions;
+
+    SharedStores() {
+        historyId = nextHistoryId.getAndIncrement();
+        history = new ArrayDeque<>();
+        startPosition = 0;
+        forkPositions = new HashMap<>();
+    }
+
+    private SharedStores(SharedStores parent) {
+        historyId = nextHistoryId.getAndIncrement();
+        history = new ArrayDeque<>(parent.history);
+        endPosition = parent.endPosition;
+        startPosition = endPosition;
+        forkPositions = new HashMap<>();
+        long firstPosition = getFirstPosition();
+        parent.forkPositions.forEach((version, position) -> {
+            if (position >= firstPosition) {
+                forkPositions.put(version, position);
+            }
+        });
+        forkPositions.put(parent.getVersion(), endPosition);
+    }
+
+    /**
+     * Creates a copy of {@code source} at the same version, which is never changed.
+     */
+    private SharedStores(SharedStores source, Version version) {
+        historyId = version.historyId;
+        changeCount = version.changeCount;
+        history = new ArrayDeque<>(source.history);
+        endPosition = source.endPosition;
+        startPosition = source.startPosition;
+        forkPositions = new HashMap<>(source.forkPositions);
+    }
+
+    Version getVersion() {
+        return new Version(historyId, changeCount);
+    }
+
+    synchronized void addAccount() {
+        accountCount++;
+    }
+
+    synchronized void removeAccount() {
+        accountCount--;
+    }
+
+    /**
+     * Stops counting an account as sharing these stores, if other accounts share them too.
+     * Returns true if it did, in which case the account has to copy the stores before modifying them.
+     */
+    synchronized boolean removeAccountIfShared() {
+        if (accountCount == 1) {
+            return false;
+        }
+        accountCount--;
+        return true;
+    }
+
+    /**
+     * Returns new stores for an account that stops sharing these stores.
+     * They start from the current version of these stores, and keep their history.
+     */
+    SharedStores fork() {
+        return new SharedStores(this);
+    }
+
+    /**
+     * Returns a copy of these stores at their current version, for an account that is never modified.
+     * The copy tells the same changes since earlier versions as these stores, but is not changed by the changes
+     * recorded afterwards, so that it can be read on another thread.
+     */
+    SharedStores freeze() {
+        return new SharedStores(this, getVersion());
+    }
+
+    /**
+     * Records a change of the entry with the id, or the budget of the month, {@code changedKey}.
+     */
+    void record(Object changedKey) {
+        history.addLast(changedKey);
+        changeCount++;
+        endPosition++;
+        if (history.size() > HISTORY_CAPACITY) {
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * Records that the stores were replaced as a whole, so that none of the earlier changes can be told apart.
+     */
+    void recordReplacement() {
+        history.clear();
+        changeCount++;
+        endPosition++;
+    }
+
+    private long getFirstPosition() {
+        return endPosition - history.size();
+    }
+
+    /**
+     * Returns the position of {@code version} in the history, or -1 if these stores never were at that version,
+     * and were not copied from stores that were.
+     */
+    private long getPosition(Version version) {
+        if (version.historyId == historyId) {
+            return version.changeCount <= changeCount ? startPosition + version.changeCount : -1;
+        }
+        for (Map.Entry<Version, Long> fork : forkPositions.entrySet()) {
+            Version forkVersion = fork.getKey();
+            if (forkVersion.historyId == version.historyId && version.changeCount <= forkVersion.changeCount) {
+                return fork.getValue() - (forkVersion.changeCount - version.changeCount);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the changes recorded since these stores, or the stores they were copied from, were at
+     * {@code version}, or an empty {@code Optional} if they are no longer remembered.
+     */
+    Optional<Changes> getChangesSince(Version version) {
+        long since = getPosition(version);
+        long firstPosition = getFirstPosition();
+        if (since < firstPosition) {
+            return Optional.empty();
+        }
+
+        Changes changes = new Changes();
+        Iterator<Object> oldestFirst = history.iterator();
+        for (long position = firstPosition; position < since; position++) {
+            oldestFirst.next();
+        }
+        while (oldestFirst.hasNext()) {
+            Object changedKey = oldestFirst.next();
+            if (changedKey instanceof YearMonth) {
+                changes.addBudgetMonth((YearMonth) changedKey);
+            } else {
+                changes.addEntryId((Long) changedKey);
+            }
+        }
+        return Optional.of(changes);
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.saveit.model.budget;
 
 import java.time.YearMonth;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A hashmap of the budgets to be stored.
  */
-public class BudgetMap {
+public class BudgetMap implements ReadOnlyBudgetMap {
 
     private HashMap<YearMonth, Double> budgets;
 
@@ -14,16 +16,24 @@ public class BudgetMap {
         budgets = new HashMap<>();
     }
 
+    /**
+     * Creates a BudgetMap with the budgets in {@code toBeCopied}.
+     */
+    public BudgetMap(BudgetMap toBeCopied) {
+        budgets = new HashMap<>(toBeCopied.budgets);
+    }
+
     public void setBudget(Budget budget) {
         budgets.put(budget.getYearMonth(), budget.getBudget().value);
     }
 
+    @Override
     public Double get(YearMonth yearMonth) {
         return budgets.getOrDefault(yearMonth, null);
     }
 
-
-    public HashMap<YearMonth, Double> getBudgets() {
-        return budgets;
+    @Override
+    public Map<YearMonth, Double> getBudgets() {
+        return Collections.unmodifiableMap(budgets);
     }
 }
@@ -0,0 +1,20 @@
+package seedu.saveit.model.budget;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Unmodifiable view of the budgets of an account.
+ */
+public interface ReadOnlyBudgetMap {
+
+    /**
+     * Returns the budget of {@code yearMonth}, or null if no budget is set for it.
+     */
+    Double get(YearMonth yearMonth);
+
+    /**
+     * Returns an unmodifiable view of the budgets, by month.
+     */
+    Map<YearMonth, Double> getBudgets();
+}
@@ -3,17 +3,20 @@ package seedu.saveit.model.expenditure;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.AppUtil.checkArgument;
 
-import java.math.BigDecimal;
-
 /**
  * Represents an Expenditure's amount in the account.
+ * The amount is kept as a whole number of cents, so sums of amounts are exact.
  * Guarantees: immutable; is valid as declared in {@link #isValidAmount(String)}
  */
 public class Amount {
 
     public static final String MESSAGE_CONSTRAINTS = "Amount should be positive, "
             + "less than 1 billion and up to 2 decimal point.";
-    // TODO potentially can change to BigDecimal to represent money.
+
+    private static final long MAX_CENTS_EXCLUSIVE = 100_000_000_000L;
+    private static final long INVALID_CENTS = -1;
+
+    public final long cents;
     public final double value;
 
     /**
@@ -24,7 +27,8 @@ public class Amount {
     public Amount(double amount) {
         requireNonNull(amount);
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
-        value = amount;
+        cents = Math.round(amount * 100);
+        value = toDollars(cents);
     }
 
     /**
@@ -33,7 +37,25 @@ public class Amount {
      * @param amount A valid amount.
      */
     public Amount(String amount) {
-        this(Double.parseDouble(amount));
+        requireNonNull(amount);
+        cents = parseCents(amount);
+        checkArgument(cents != INVALID_CENTS, MESSAGE_CONSTRAINTS);
+        value = toDollars(cents);
+    }
+
+    private Amount(long cents, double value) {
+        this.cents = cents;
+        this.value = value;
+    }
+
+    /**
+     * Returns an {@code Amount} of {@code cents} cents.
+     *
+     * @param cents A valid number of cents.
+     */
+    public static Amount fromCents(long cents) {
+        checkArgument(cents > 0 && cents < MAX_CENTS_EXCLUSIVE, MESSAGE_CONSTRAINTS);
+        return new Amount(cents, toDollars(cents));
     }
 
     /**
@@ -41,7 +63,8 @@ public class Amount {
      */
     public static boolean isValidAmount(double test) {
         requireNonNull(test);
-        return test > 0 && test < 1000000000 && BigDecimal.valueOf(test).scale() <= 2;
+        // An amount has at most 2 decimal places if it is the closest double to its number of cents.
+        return test > 0 && test < 1000000000 && toDollars(Math.round(test * 100)) == test;
     }
 
     /**
@@ -49,11 +72,68 @@ public class Amount {
      */
     public static boolean isValidAmount(String test) {
         requireNonNull(test);
-        try {
-            return isValidAmount(Double.parseDouble(test));
-        } catch (Exception e) {
-            return false;
+        return parseCents(test) != INVALID_CENTS;
+    }
+
+    /**
+     * Converts a number of cents to dollars, for display.
+     */
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Parses an amount written as digits with an optional decimal point, surrounded by optional whitespace,
+     * into a number of cents without allocating. Digits after the second decimal place must be zeros.
+     *
+     * @return the number of cents, or {@code INVALID_CENTS} if {@code text} is not a valid amount.
+     */
+    private static long parseCents(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end && text.charAt(start) == '+') {
+            start++;
+        }
+
+        long cents = 0;
+        int digits = 0;
+        int decimalPlaces = -1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && decimalPlaces == -1) {
+                decimalPlaces = 0;
+            } else if (c < '0' || c > '9') {
+                return INVALID_CENTS;
+            } else if (decimalPlaces >= 2) {
+                if (c != '0') {
+                    return INVALID_CENTS;
+                }
+                digits++;
+            } else {
+                cents = cents * 10 + (c - '0');
+                if (cents >= MAX_CENTS_EXCLUSIVE) {
+                    return INVALID_CENTS;
+                }
+                digits++;
+                if (decimalPlaces != -1) {
+                    decimalPlaces++;
+                }
+            }
+        }
+        if (digits == 0) {
+            return INVALID_CENTS;
+        }
+
+        for (int i = Math.max(decimalPlaces, 0); i < 2; i++) {
+            cents *= 10;
         }
+        return cents > 0 && cents < MAX_CENTS_EXCLUSIVE ? cents : INVALID_CENTS;
     }
 
     @Override
@@ -65,12 +145,12 @@ public class Amount {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Amount // instanceof handles nulls
-                && value == ((Amount) other).value); // state check
+                && cents == ((Amount) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return Double.valueOf(value).hashCode();
+        return Long.hashCode(cents);
     }
 
 }
@@ -1,22 +1,59 @@
 package seedu.saveit.model.expenditure;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.scene.layout.Region;
 import seedu.saveit.ui.UiPart;
 
 /**
- * A base class for the Expenditure and Repeat classes
+ * A base class for the Expenditure and Repeat classes.
+ * Every entry has a numeric id that stays the same when the entry is edited or saved, so that entries
+ * with the same fields can still be told apart. The id is not part of the equality of entries.
  */
 public abstract class BaseExp {
+    // The smallest id that has not been given to an entry yet.
+    private static final AtomicLong nextId = new AtomicLong(1);
+
     protected Info info;
     protected Amount amount;
     protected Tag tag;
 
+    private final long id;
+
+    /**
+     * Creates an entry with a new id.
+     */
+    protected BaseExp() {
+        id = nextId.getAndIncrement();
+    }
+
+    /**
+     * Creates an entry with the given {@code id}, which will not be given to any new entry.
+     */
+    protected BaseExp(long id) {
+        this(id, false);
+    }
+
+    /**
+     * Creates an entry with the given {@code id}. If {@code isIdReserved}, the id was already given to an entry
+     * that this entry is rebuilt from, so the ids of new entries are left as they are.
+     */
+    protected BaseExp(long id, boolean isIdReserved) {
+        this.id = id;
+        if (!isIdReserved) {
+            nextId.accumulateAndGet(id + 1, Math::max);
+        }
+    }
+
     public abstract UiPart<Region> getUiCard(int displayedNumber);
 
     public abstract boolean isOn(LocalDate localDate);
 
+    public long getId() {
+        return id;
+    }
+
     public Info getInfo() {
         return info;
     }
@@ -0,0 +1,95 @@
+package seedu.saveit.model.expenditure;
+
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Binary indexed (Fenwick) trees of the total amount spent on each day in cents, indexed by epoch day.
+ * Updating the total of a day takes O(log n), where n is the number of days in a block, and summing the totals
+ * over a range of days takes O(log n) for each block in use in the range.
+ * <p>
+ * The days are split into blocks of a fixed number of consecutive days, and each block has its own tree, which
+ * is only created when an amount falls inside it. So the memory used depends on how many blocks hold amounts,
+ * rather than on how far apart the days are.
+ */
+public class DailySpendingTree {
+
+    // Number of consecutive days covered by each block.
+    private static final int BLOCK_DAYS = 1024;
+
+    // Tree of each block in use, by the index of the block, which is the epoch day divided by BLOCK_DAYS.
+    private final TreeMap<Long, Block> blocks = new TreeMap<>();
+
+    /**
+     * Adds {@code cents} to the total of {@code date}. A negative amount removes spending.
+     */
+    public void add(LocalDate date, long cents) {
+        long epochDay = date.toEpochDay();
+        blocks.computeIfAbsent(Math.floorDiv(epochDay, BLOCK_DAYS), index -> new Block())
+                .add(dayInBlock(epochDay), cents);
+    }
+
+    /**
+     * Removes all amounts from the tree.
+     */
+    public void clear() {
+        blocks.clear();
+    }
+
+    /**
+     * Returns the total amount spent from {@code startDate} to {@code endDate} inclusive, in cents.
+     */
+    public long getTotal(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        long startBlock = Math.floorDiv(startDay, BLOCK_DAYS);
+        long endBlock = Math.floorDiv(endDay, BLOCK_DAYS);
+        long total = 0;
+        for (Map.Entry<Long, Block> entry : blocks.subMap(startBlock, true, endBlock, true).entrySet()) {
+            int firstDay = entry.getKey() == startBlock ? dayInBlock(startDay) : 0;
+            int lastDay = entry.getKey() == endBlock ? dayInBlock(endDay) : BLOCK_DAYS - 1;
+            total += entry.getValue().getTotal(firstDay, lastDay);
+        }
+        return total;
+    }
+
+    private static int dayInBlock(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) BLOCK_DAYS);
+    }
+
+    /**
+     * The tree of the totals of the days in one block, indexed by the day in the block.
+     */
+    private static class Block {
+        private final long[] tree = new long[BLOCK_DAYS + 1];
+
+        private void add(int day, long cents) {
+            for (int i = day + 1; i <= BLOCK_DAYS; i += i & -i) {
+                tree[i] += cents;
+            }
+        }
+
+        private long getTotal(int firstDay, int lastDay) {
+            return prefixSum(lastDay) - prefixSum(firstDay - 1);
+        }
+
+        /**
+         * Returns the total amount spent on the days of the block up to and including {@code day}.
+         */
+        private long prefixSum(int day) {
+            long sum = 0;
+            for (int i = day + 1; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a Expenditure's address in the address book.
+ * The date is kept as its epoch day, so comparing dates compares integers.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
 public class Date {
@@ -25,11 +26,7 @@ public class Date {
     public static final String YEARMONTH_MESSAGE_CONSTRAINTS = "Year and Month should be in the format of (YYYY-MM), "
                                                                 + "and it should not be blank";
 
-    public final String value;
-
-    public final LocalDate localDate;
-
-    private final YearMonth yearMonth;
+    private final int epochDay;
 
     /**
      * Constructs an {@code Date}.
@@ -38,31 +35,74 @@ public class Date {
      */
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        value = date;
-        localDate = LocalDate.parse(date, FORMATTER);
-        this.yearMonth = YearMonth.from(localDate);
+        LocalDate parsed = parse(date);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
+        epochDay = Math.toIntExact(parsed.toEpochDay());
+    }
+
+    private Date(long epochDay) {
+        this.epochDay = Math.toIntExact(epochDay);
+    }
+
+    /**
+     * Returns the {@code Date} of the given epoch day.
+     */
+    public static Date fromEpochDay(long epochDay) {
+        return new Date(epochDay);
+    }
+
+    /**
+     * Returns the {@code Date} of the given {@code LocalDate}.
+     */
+    public static Date fromLocalDate(LocalDate localDate) {
+        requireNonNull(localDate);
+        checkArgument(isInRange(localDate), MESSAGE_CONSTRAINTS);
+        return new Date(localDate.toEpochDay());
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Parses {@code text} into a {@code LocalDate}, or returns null if it is not a valid date.
+     */
+    private static LocalDate parse(String text) {
+        requireNonNull(text);
         try {
-            LocalDate date = LocalDate.parse(test, FORMATTER);
-            return true;
+            LocalDate parsed = LocalDate.parse(text, FORMATTER);
+            return isInRange(parsed) ? parsed : null;
         } catch (DateTimeException e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Returns true if the epoch day of {@code localDate} fits in the int a {@code Date} is kept as.
+     */
+    private static boolean isInRange(LocalDate localDate) {
+        long epochDay = localDate.toEpochDay();
+        return epochDay >= Integer.MIN_VALUE && epochDay <= Integer.MAX_VALUE;
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    public LocalDate getLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
     /**
      * Returns true if two given date, first is after the another.
      */
     public static boolean isValidDateRange(Date startDate, Date endDate) {
         requireNonNull(startDate);
         requireNonNull(endDate);
-        return !startDate.localDate.isAfter(endDate.localDate);
+        return startDate.epochDay <= endDate.epochDay;
     }
 
 
@@ -73,11 +113,11 @@ public class Date {
      * @return true if the first date is equal to or comes before the second date
      */
     public static boolean isEqualOrBefore(Date d1, Date d2) {
-        return d1.value.equals(d2.value) || d1.localDate.isBefore(d2.localDate);
+        return d1.epochDay <= d2.epochDay;
     }
 
     public static boolean isEqualOrAfter(Date d1, Date d2) {
-        return d1.value.equals(d2.value) || d1.localDate.isAfter(d2.localDate);
+        return d1.epochDay >= d2.epochDay;
     }
 
     /**
@@ -86,24 +126,24 @@ public class Date {
      * @return a boolean.
      */
     public boolean isOn (YearMonth givenYearMonth) {
-        return this.yearMonth.equals(givenYearMonth);
+        return YearMonth.from(getLocalDate()).equals(givenYearMonth);
     }
 
     @Override
     public String toString() {
-        return value;
+        return getLocalDate().format(FORMATTER);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Date // instanceof handles nulls
-                && value.equals(((Date) other).value)); // state check
+                && epochDay == ((Date) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
     }
 
 
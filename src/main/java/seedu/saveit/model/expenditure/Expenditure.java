@@ -29,6 +29,35 @@ public class Expenditure extends BaseExp {
         this.tag = tag;
     }
 
+    /**
+     * Creates an expenditure with the given {@code id}. Every field must be present and not null.
+     */
+    public Expenditure(long id, Info info, Amount amount, Date date, Tag tag) {
+        super(id);
+        requireAllNonNull(info, amount, date, tag);
+        this.info = info;
+        this.amount = amount;
+        this.date = date;
+        this.tag = tag;
+    }
+
+    private Expenditure(long id, Info info, Amount amount, Date date, Tag tag, boolean isIdReserved) {
+        super(id, isIdReserved);
+        this.info = info;
+        this.amount = amount;
+        this.date = date;
+        this.tag = tag;
+    }
+
+    /**
+     * Rebuilds an expenditure from the fields of an expenditure that was already created, such as one kept in an
+     * {@code ExpenditureColumnStore}. The fields were checked when they were first created, so they are not checked
+     * again, and the id is not reserved again.
+     */
+    static Expenditure rebuild(long id, Info info, Amount amount, Date date, Tag tag) {
+        return new Expenditure(id, info, amount, date, tag, true);
+    }
+
     public Date getDate() {
         return date;
     }
@@ -93,6 +122,6 @@ public class Expenditure extends BaseExp {
 
     @Override
     public boolean isOn(LocalDate localDate) {
-        return localDate.equals(date.localDate);
+        return localDate.equals(date.getLocalDate());
     }
 }
@@ -0,0 +1,345 @@
+package seedu.saveit.model.expenditure;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of expenditures that stores its rows as primitive columns instead of as objects.
+ * Each row takes the id of the expenditure, an epoch day, an amount in cents and the ids of its tag and info,
+ * which are dictionary-encoded so that each distinct tag and info is only kept once, for as long as a row uses it.
+ * {@code Expenditure} objects are only created for the rows that are read, and share the tags and infos kept.
+ * <p>
+ * Every row is kept in a slot, whose number does not change while the row stays in the list,
+ * so indexes over the rows can refer to them by slot.
+ * <p>
+ * The slots are kept in list order in an array that rows are only appended to. A removed row leaves a gap,
+ * and a tree of the number of rows before each position finds the index of a slot, and the slot at an index,
+ * in logarithmic time, so that removing a row never shifts the rows after it. The gaps are closed once they take
+ * up more than half of the array. Adding a row anywhere but at the end closes the gaps too.
+ */
+public class ExpenditureColumnStore extends ModifiableObservableListBase<Expenditure> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GAP = -1;
+
+    private long[] expenditureIds = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private long[] amountCents = new long[INITIAL_CAPACITY];
+    private int[] tagIds = new int[INITIAL_CAPACITY];
+    private int[] infoIds = new int[INITIAL_CAPACITY];
+    private int slotCount;
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount;
+
+    // Slots of the rows in list order, with a gap where a row was removed.
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int orderLength;
+    // Position of each slot in use in the order.
+    private int[] orderPositions = new int[INITIAL_CAPACITY];
+    // Fenwick tree of the number of rows at each position of the order, indexed from 1.
+    private int[] rowCounts = new int[INITIAL_CAPACITY + 1];
+    private int size;
+
+    private final Dictionary<Tag> tags = new Dictionary<>();
+    private final Dictionary<Info> infos = new Dictionary<>();
+
+    @Override
+    public Expenditure get(int index) {
+        return materialize(slotAt(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of the row at {@code index}.
+     */
+    public int slotAt(int index) {
+        Objects.checkIndex(index, size);
+        return order[positionOf(index)];
+    }
+
+    /**
+     * Returns the index of the row in {@code slot}, or -1 if the slot is not in use.
+     */
+    public int indexOfSlot(int slot) {
+        if (slot < 0 || slot >= slotCount || orderPositions[slot] == GAP) {
+            return -1;
+        }
+        return countRowsBefore(orderPositions[slot]);
+    }
+
+    /**
+     * Creates the expenditure stored in {@code slot}.
+     */
+    public Expenditure materialize(int slot) {
+        return Expenditure.rebuild(expenditureIds[slot], infos.decode(infoIds[slot]),
+                Amount.fromCents(amountCents[slot]), Date.fromEpochDay(epochDays[slot]), tags.decode(tagIds[slot]));
+    }
+
+    /**
+     * Returns the id of the expenditure stored in {@code slot}.
+     */
+    public long idAt(int slot) {
+        return expenditureIds[slot];
+    }
+
+    /**
+     * Returns the number of distinct tags and infos kept for the rows.
+     */
+    int getDictionarySize() {
+        return tags.size() + infos.size();
+    }
+
+    /**
+     * Returns true if the row in {@code slot} is equal to {@code expenditure}.
+     */
+    public boolean matches(int slot, Expenditure expenditure) {
+        return epochDays[slot] == expenditure.getDate().getEpochDay()
+                && amountCents[slot] == expenditure.getAmount().cents
+                && tagIds[slot] == tags.find(expenditure.getTag())
+                && infoIds[slot] == infos.find(expenditure.getInfo());
+    }
+
+    @Override
+    protected void doAdd(int index, Expenditure element) {
+        requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int slot = allocateSlot();
+        write(slot, element);
+        if (index < size) {
+            rebuildOrder(index, slot);
+            return;
+        }
+        if (orderLength == order.length) {
+            rebuildOrder(-1, GAP);
+        }
+        order[orderLength] = slot;
+        orderPositions[slot] = orderLength;
+        addRowCount(orderLength, 1);
+        orderLength++;
+        size++;
+    }
+
+    @Override
+    protected Expenditure doSet(int index, Expenditure element) {
+        requireNonNull(element);
+        int slot = slotAt(index);
+        Expenditure previous = materialize(slot);
+        release(slot);
+        write(slot, element);
+        return previous;
+    }
+
+    @Override
+    protected Expenditure doRemove(int index) {
+        Objects.checkIndex(index, size);
+        int position = positionOf(index);
+        int slot = order[position];
+        Expenditure removed = materialize(slot);
+        release(slot);
+        order[position] = GAP;
+        orderPositions[slot] = GAP;
+        addRowCount(position, -1);
+        size--;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        if (orderLength - size > size) {
+            rebuildOrder(-1, GAP);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the position in the order of the row at {@code index}.
+     */
+    private int positionOf(int index) {
+        if (orderLength == size) {
+            return index; // no gaps
+        }
+        // Descends the tree to the last position with at most index rows before it.
+        int position = 0;
+        int rowsLeft = index + 1;
+        for (int step = Integer.highestOneBit(order.length); step > 0; step >>= 1) {
+            if (position + step <= order.length && rowCounts[position + step] < rowsLeft) {
+                position += step;
+                rowsLeft -= rowCounts[position];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of rows at the positions of the order before {@code position}.
+     */
+    private int countRowsBefore(int position) {
+        if (orderLength == size) {
+            return position; // no gaps
+        }
+        int count = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            count += rowCounts[i];
+        }
+        return count;
+    }
+
+    private void addRowCount(int position, int delta) {
+        for (int i = position + 1; i < rowCounts.length; i += i & -i) {
+            rowCounts[i] += delta;
+        }
+    }
+
+    /**
+     * Closes the gaps in the order, making room for at least one more row, and inserts {@code insertedSlot}
+     * at {@code insertIndex} unless it is -1.
+     */
+    private void rebuildOrder(int insertIndex, int insertedSlot) {
+        int newSize = insertIndex == -1 ? size : size + 1;
+        int[] newOrder = new int[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(newSize) * 2)];
+        int newLength = 0;
+        for (int position = 0; position < orderLength; position++) {
+            if (newLength == insertIndex) {
+                newOrder[newLength++] = insertedSlot;
+            }
+            if (order[position] != GAP) {
+                newOrder[newLength++] = order[position];
+            }
+        }
+        if (newLength == insertIndex) {
+            newOrder[newLength++] = insertedSlot;
+        }
+
+        order = newOrder;
+        orderLength = newLength;
+        size = newLength;
+        rowCounts = new int[order.length + 1];
+        for (int position = 0; position < orderLength; position++) {
+            orderPositions[order[position]] = position;
+            rowCounts[position + 1] = 1;
+        }
+        // Builds the tree in linear time, each node adding its count to its parent.
+        for (int node = 1; node < rowCounts.length; node++) {
+            int parent = node + (node & -node);
+            if (parent < rowCounts.length) {
+                rowCounts[parent] += rowCounts[node];
+            }
+        }
+    }
+
+    /**
+     * Returns a free slot, growing the columns if every slot is in use.
+     */
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == epochDays.length) {
+            int capacity = slotCount * 2;
+            expenditureIds = Arrays.copyOf(expenditureIds, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            tagIds = Arrays.copyOf(tagIds, capacity);
+            infoIds = Arrays.copyOf(infoIds, capacity);
+            orderPositions = Arrays.copyOf(orderPositions, capacity);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Writes the fields of {@code expenditure} into the columns of {@code slot}.
+     */
+    private void write(int slot, Expenditure expenditure) {
+        expenditureIds[slot] = expenditure.getId();
+        epochDays[slot] = expenditure.getDate().getEpochDay();
+        amountCents[slot] = expenditure.getAmount().cents;
+        tagIds[slot] = tags.encode(expenditure.getTag());
+        infoIds[slot] = infos.encode(expenditure.getInfo());
+    }
+
+    /**
+     * Stops the row in {@code slot} from using its tag and info, before it is overwritten or removed.
+     */
+    private void release(int slot) {
+        tags.release(tagIds[slot]);
+        infos.release(infoIds[slot]);
+    }
+
+    /**
+     * Assigns ids to distinct values, and counts the rows using each of them. A value no row uses any more is
+     * dropped, and its id is given to the next new value, so that edited and removed rows leave nothing behind.
+     */
+    private static class Dictionary<T> {
+        private final HashMap<T, Integer> ids = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+        private int[] useCounts = new int[INITIAL_CAPACITY];
+        private int[] freeIds = new int[INITIAL_CAPACITY];
+        private int freeIdCount;
+
+        /**
+         * Returns the id of {@code value}, assigning one if no row uses it yet, and counts one more row using it.
+         */
+        int encode(T value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = freeIdCount > 0 ? freeIds[--freeIdCount] : values.size();
+                if (id == values.size()) {
+                    values.add(value);
+                    if (id == useCounts.length) {
+                        useCounts = Arrays.copyOf(useCounts, id * 2);
+                    }
+                } else {
+                    values.set(id, value);
+                }
+                ids.put(value, id);
+            }
+            useCounts[id]++;
+            return id;
+        }
+
+        /**
+         * Counts one less row using the value with the given {@code id}, dropping the value if no row uses it.
+         */
+        void release(int id) {
+            if (--useCounts[id] > 0) {
+                return;
+            }
+            ids.remove(values.get(id));
+            values.set(id, null);
+            if (freeIdCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+            }
+            freeIds[freeIdCount++] = id;
+        }
+
+        /**
+         * Returns the id of {@code value}, or -1 if no row uses it.
+         */
+        int find(T value) {
+            return ids.getOrDefault(value, -1);
+        }
+
+        T decode(int id) {
+            return values.get(id);
+        }
+
+        /**
+         * Returns the number of distinct values in use.
+         */
+        int size() {
+            return ids.size();
+        }
+    }
+}
@@ -2,12 +2,8 @@ package seedu.saveit.model.expenditure;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Objects;
 
 import javafx.scene.layout.Region;
@@ -30,9 +26,6 @@ public class Repeat extends BaseExp {
 
     private Date startDate;
     private Date endDate;
-    // displayDate is empty, size 0 means daily.
-    // non empty means weekly or monthly -> cos i will at least add one day inside.
-    private HashSet<LocalDate> relevantDate;
     private Period period;
 
     /**
@@ -74,8 +67,19 @@ public class Repeat extends BaseExp {
         this.endDate = endDate;
         this.tag = tag;
         setPeriod(period);
-        relevantDate = new HashSet<>();
-        generateRelevantDate();
+    }
+
+    /**
+     * Creates a repeat with the given {@code id}.
+     */
+    public Repeat(long id, Info info, Amount amount, Date startDate, Date endDate, Tag tag, String period) {
+        super(id);
+        this.info = info;
+        this.amount = amount;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.tag = tag;
+        setPeriod(period);
     }
 
     @Override
@@ -160,73 +164,6 @@ public class Repeat extends BaseExp {
     }
 
 
-    /**
-     * Update the displayDate hashSet.
-     */
-    private void generateRelevantDate() {
-        if (this.period == Period.WEEKLY) {
-            generateWeeklyDate();
-        } else if (this.period == Period.MONTHLY) {
-            generateMonthlyDate();
-        } else if (this.period == Period.ANNUALLY) {
-            generateAnnuallyDate();
-        } else {
-            this.relevantDate.clear();
-        }
-
-    }
-
-    /**
-     * Update if it is a weekly repeat.
-     */
-    private void generateWeeklyDate() {
-        this.relevantDate.clear();
-        LocalDate pivotDate = this.startDate.localDate;
-        int i = 0;
-        while (true) {
-            LocalDate toStore = pivotDate.plusWeeks(i);
-            if (toStore.isAfter(this.endDate.localDate)) {
-                break;
-            }
-            this.relevantDate.add(toStore);
-            i++;
-        }
-    }
-
-    /**
-     * Update if it is a monthly repeat.
-     */
-    private void generateMonthlyDate() {
-        this.relevantDate.clear();
-        LocalDate pivotDate = this.startDate.localDate;
-        int i = 0;
-        while (true) {
-            LocalDate toStore = pivotDate.plusMonths(i);
-            if (toStore.isAfter(this.endDate.localDate)) {
-                break;
-            }
-            this.relevantDate.add(toStore);
-            i++;
-        }
-    }
-
-    /**
-     * Update if it is a annually repeat.
-     */
-    private void generateAnnuallyDate() {
-        this.relevantDate.clear();
-        LocalDate pivotDate = this.startDate.localDate;
-        int i = 0;
-        while (true) {
-            LocalDate toStore = pivotDate.plusYears(i);
-            if (toStore.isAfter(this.endDate.localDate)) {
-                break;
-            }
-            this.relevantDate.add(toStore);
-            i++;
-        }
-    }
-
     /**
      * To check if this repeat object suppose to appear on that date.
      *
@@ -234,96 +171,54 @@ public class Repeat extends BaseExp {
      * @return true denote suppose to appear, false to denote not suppose to appear.
      */
     public boolean isOn(LocalDate targetDate) {
-        if (this.period == Period.DAILY) {
-            return checkDaily(targetDate);
-        } else {
-            return checkWeeklyOrMonthlyOrAnnually(targetDate);
-        }
+        return countOccurrences(targetDate, targetDate) == 1;
     }
 
     /**
-     * Check if a date lie within the range of start and end date.
+     * Counts the dates from {@code from} to {@code to} inclusive on which this repeat occurs.
+     * The n-th occurrence is the start date plus n days, weeks, months or years, following
+     * {@link LocalDate#plusMonths(long)} and {@link LocalDate#plusYears(long)} in clamping to the end of a month.
      *
-     * @param targetDate the date you want to check.
-     * @return true or false.
+     * @param from the first date to consider.
+     * @param to the last date to consider.
+     * @return the number of occurrences.
      */
-    private boolean checkDaily(LocalDate targetDate) {
-        boolean wrtStartDate = targetDate.isEqual(startDate.localDate)
-                || targetDate.isAfter(startDate.localDate);
-        boolean wrtEndDate = targetDate.isEqual((endDate.localDate))
-                || targetDate.isBefore(endDate.localDate);
-        return wrtStartDate && wrtEndDate;
-    }
-
-    /**
-     * Check if the date exist in the displayDate.
-     *
-     * @param targetDate the date you want to check.
-     * @return true or false.
-     */
-    private boolean checkWeeklyOrMonthlyOrAnnually(LocalDate targetDate) {
-        return this.relevantDate.contains(targetDate);
-    }
-
-
-    /**
-     * Do note that this method will only be call if period is not daily.
-     * Get all the date from the relevantDate that falls in the given YearMonth.
-     *
-     * @param givenYearMonth target YearMonth.
-     * @return an arrayList of all the dates that follows within the YearMonth.
-     */
-    private ArrayList<LocalDate> isOnYearMonth(YearMonth givenYearMonth) {
-        ArrayList<LocalDate> allDateWithinGivenYearMonth = new ArrayList<>();
-        Iterator iterator = relevantDate.iterator();
-        while (iterator.hasNext()) {
-            LocalDate temp = (LocalDate) iterator.next();
-            if (YearMonth.from(temp).equals(givenYearMonth)) {
-                allDateWithinGivenYearMonth.add(temp);
-            }
+    private long countOccurrences(LocalDate from, LocalDate to) {
+        LocalDate first = this.startDate.getLocalDate();
+        LocalDate lower = from.isAfter(first) ? from : first;
+        LocalDate upper = to.isBefore(this.endDate.getLocalDate()) ? to : this.endDate.getLocalDate();
+        if (lower.isAfter(upper)) {
+            return 0;
         }
-        return allDateWithinGivenYearMonth;
-    }
 
-    /**
-     * Calculate the total value for the given YearMonth and period is "DAILY".
-     *
-     * @param givenYearMonth the target YearMonth
-     * @return the total value of that period.
-     */
-    private double calculateDaily(YearMonth givenYearMonth) {
-        if (YearMonth.from(startDate.localDate).isAfter(givenYearMonth)
-                || YearMonth.from(endDate.localDate).isBefore(givenYearMonth)) {
-            return 0;
+        long firstIndex;
+        long lastIndex;
+        if (this.period == Period.DAILY) {
+            return ChronoUnit.DAYS.between(lower, upper) + 1;
+        } else if (this.period == Period.WEEKLY) {
+            // Round up for the first occurrence on or after lower, down for the last one on or before upper.
+            firstIndex = (ChronoUnit.DAYS.between(first, lower) + 6) / 7;
+            lastIndex = ChronoUnit.DAYS.between(first, upper) / 7;
+        } else if (this.period == Period.MONTHLY) {
+            firstIndex = ChronoUnit.MONTHS.between(YearMonth.from(first), YearMonth.from(lower));
+            if (first.plusMonths(firstIndex).isBefore(lower)) {
+                firstIndex++;
+            }
+            lastIndex = ChronoUnit.MONTHS.between(YearMonth.from(first), YearMonth.from(upper));
+            if (first.plusMonths(lastIndex).isAfter(upper)) {
+                lastIndex--;
+            }
         } else {
-            double total;
-            if (YearMonth.from(startDate.localDate).equals((givenYearMonth))) {
-                // Start date is in the same month of the given year month.
-                if (YearMonth.from(endDate.localDate).equals((givenYearMonth))) {
-                    // End date is in the same month of the given year month.
-                    int totalDays = this.startDate.localDate.until(this.endDate.localDate).getDays() + 1;
-                    total = totalDays * this.amount.value;
-                } else {
-                    // End date is not in the same month of the given year month.
-                    int totalNumberOfDaysInTheMonth = givenYearMonth.lengthOfMonth();
-                    int totalNumberOfCountableDays = totalNumberOfDaysInTheMonth
-                            - this.startDate.localDate.getDayOfMonth() + 1;
-                    total = totalNumberOfCountableDays * this.amount.value;
-                }
-                return total;
-            } else {
-                // Start date is before the given YearMonth
-                if (YearMonth.from(endDate.localDate).isAfter(givenYearMonth)) {
-                    // End date is after the given YearMonth
-                    total = givenYearMonth.lengthOfMonth() * this.amount.value;
-                } else {
-                    // End date is within the given YearMonth
-                    int countableDays = this.endDate.localDate.getDayOfMonth();
-                    total = countableDays * this.amount.value;
-                }
-                return total;
+            firstIndex = lower.getYear() - first.getYear();
+            if (first.plusYears(firstIndex).isBefore(lower)) {
+                firstIndex++;
+            }
+            lastIndex = upper.getYear() - first.getYear();
+            if (first.plusYears(lastIndex).isAfter(upper)) {
+                lastIndex--;
             }
         }
+        return Math.max(0, lastIndex - firstIndex + 1);
     }
 
     /**
@@ -335,39 +230,7 @@ public class Repeat extends BaseExp {
      * @return
      */
     public double calculateDaily(Date startDate, Date endDate) {
-
-        LocalDate adjustedStart = null;
-        LocalDate adjustedEnd = null;
-
-        if (startDate.localDate.isAfter(this.getEndDate().localDate)
-                || endDate.localDate.isBefore(this.getStartDate().localDate)) {
-            return 0;
-        }
-
-        if (Date.isEqualOrBefore(this.getEndDate(), endDate)) {
-
-            adjustedStart = startDate.localDate;
-
-            if (Date.isEqualOrAfter(this.getStartDate(), startDate)) {
-                adjustedStart = this.getStartDate().localDate;
-            }
-            adjustedEnd = this.getEndDate().localDate;
-
-        } else {
-            adjustedStart = this.getStartDate().localDate;
-
-            if (Date.isEqualOrBefore(this.getStartDate(), startDate)) {
-                adjustedStart = startDate.localDate;
-            }
-            adjustedEnd = endDate.localDate;
-        }
-
-        assert adjustedStart != null && adjustedEnd != null;
-        long days = ChronoUnit.DAYS.between(adjustedStart, adjustedEnd) + 1;
-
-        double amount = this.getAmount().value * days;
-
-        return amount;
+        return Amount.toDollars(countOccurrences(startDate.getLocalDate(), endDate.getLocalDate()) * this.amount.cents);
     }
 
     /**
@@ -380,8 +243,8 @@ public class Repeat extends BaseExp {
         Date adjustedStart = null;
         Date adjustedEnd = null;
 
-        if (startDate.localDate.isAfter(this.getEndDate().localDate)
-                || endDate.localDate.isBefore(this.getStartDate().localDate)) {
+        if (startDate.getEpochDay() > this.getEndDate().getEpochDay()
+                || endDate.getEpochDay() < this.getStartDate().getEpochDay()) {
             return new HashMap();
         }
 
@@ -408,16 +271,16 @@ public class Repeat extends BaseExp {
         HashMap<String, Double> output = new HashMap<>();
 
         //if is same month and year
-        if (adjustedStart.localDate.getMonth() == adjustedEnd.localDate.getMonth()
-                && adjustedStart.localDate.getYear() == adjustedEnd.localDate.getYear()) {
-            output.put(String.valueOf(YearMonth.from(adjustedStart.localDate)),
+        if (adjustedStart.getLocalDate().getMonth() == adjustedEnd.getLocalDate().getMonth()
+                && adjustedStart.getLocalDate().getYear() == adjustedEnd.getLocalDate().getYear()) {
+            output.put(String.valueOf(YearMonth.from(adjustedStart.getLocalDate())),
                     calculateDaily(adjustedStart, adjustedEnd));
             return output;
         }
 
         // get eom for start date
-        LocalDate endOfMonthOfStartLocalDate = YearMonth.from(adjustedStart.localDate).atEndOfMonth();
-        Date endOfMonthOfStartDate = new Date(endOfMonthOfStartLocalDate.format(DateTimeFormatter.ISO_DATE));
+        LocalDate endOfMonthOfStartLocalDate = YearMonth.from(adjustedStart.getLocalDate()).atEndOfMonth();
+        Date endOfMonthOfStartDate = Date.fromLocalDate(endOfMonthOfStartLocalDate);
 
         //first month expenditure
         output.put(String.valueOf(YearMonth.from(endOfMonthOfStartLocalDate)),
@@ -425,17 +288,17 @@ public class Repeat extends BaseExp {
 
 
         //middle months expenditure
-        YearMonth currentMonthYear = YearMonth.from(adjustedStart.localDate.plusMonths(1));
-        YearMonth end = YearMonth.from(adjustedEnd.localDate.minusMonths(1));
+        YearMonth currentMonthYear = YearMonth.from(adjustedStart.getLocalDate().plusMonths(1));
+        YearMonth end = YearMonth.from(adjustedEnd.getLocalDate().minusMonths(1));
 
         while (!currentMonthYear.isAfter(end)) {
-            output.put(String.valueOf(currentMonthYear), calculateDaily(currentMonthYear));
+            output.put(String.valueOf(currentMonthYear), calculateForGivenYearMonth(currentMonthYear));
             currentMonthYear = currentMonthYear.plusMonths(1);
         }
 
         //last month expenditure
-        LocalDate startOfMonthOfEndLocalDate = YearMonth.from(adjustedEnd.localDate).atDay(1);
-        Date startOfMonthOfEndDate = new Date(startOfMonthOfEndLocalDate.format(DateTimeFormatter.ISO_DATE));
+        LocalDate startOfMonthOfEndLocalDate = YearMonth.from(adjustedEnd.getLocalDate()).atDay(1);
+        Date startOfMonthOfEndDate = Date.fromLocalDate(startOfMonthOfEndLocalDate);
 
         output.put(String.valueOf(YearMonth.from(startOfMonthOfEndLocalDate)),
                 calculateDaily(startOfMonthOfEndDate, adjustedEnd));
@@ -452,13 +315,17 @@ public class Repeat extends BaseExp {
      * @return total spending for that repeat.
      */
     public double calculateForGivenYearMonth(YearMonth givenYearMonth) {
-        if (this.period == Period.DAILY) {
-            return calculateDaily(givenYearMonth);
-        } else {
-            int totalNumOfDays = isOnYearMonth(givenYearMonth).size();
-            double total = totalNumOfDays * this.amount.value;
-            return total;
-        }
+        return Amount.toDollars(calculateCentsForGivenYearMonth(givenYearMonth));
+    }
+
+    /**
+     * Calculates the total spending of this repeat in the given month, in cents.
+     *
+     * @param givenYearMonth the target month.
+     * @return total spending for that repeat in cents.
+     */
+    public long calculateCentsForGivenYearMonth(YearMonth givenYearMonth) {
+        return countOccurrences(givenYearMonth.atDay(1), givenYearMonth.atEndOfMonth()) * this.amount.cents;
     }
 
     /**
@@ -471,15 +338,15 @@ public class Repeat extends BaseExp {
      * @return accumulated amount in these months.
      */
     public double calculateForGivenYearMonthRange(YearMonth startYearMonth, YearMonth endYearMonth) {
-        double total = 0;
+        long total = 0;
         YearMonth current = startYearMonth;
 
         while (!current.isAfter(endYearMonth)) {
-            total = total + calculateForGivenYearMonth(current);
+            total = total + calculateCentsForGivenYearMonth(current);
             current = current.plusMonths(1);
         }
 
-        return total;
+        return Amount.toDollars(total);
     }
 
     /**
@@ -491,66 +358,7 @@ public class Repeat extends BaseExp {
      * @return total value.
      */
     public double calculateWkOrMthOrYr(Date startDate, Date endDate) {
-
-
-        LocalDate adjustedStart = null;
-        LocalDate adjustedEnd = null;
-
-        if (startDate.localDate.isAfter(this.getEndDate().localDate)
-                || endDate.localDate.isBefore(this.getStartDate().localDate)) {
-            return 0;
-        }
-
-        if (Date.isEqualOrBefore(this.getEndDate(), endDate)) {
-
-            adjustedStart = startDate.localDate;
-
-            if (Date.isEqualOrAfter(this.getStartDate(), startDate)) {
-                adjustedStart = this.getStartDate().localDate;
-            }
-            adjustedEnd = this.getEndDate().localDate;
-
-        } else {
-            adjustedStart = this.getStartDate().localDate;
-
-            if (Date.isEqualOrBefore(this.getStartDate(), startDate)) {
-                adjustedStart = startDate.localDate;
-            }
-            adjustedEnd = endDate.localDate;
-        }
-
-        assert adjustedEnd != null && adjustedStart != null;
-
-        //if is same month and year
-        if (adjustedStart.getMonth() == adjustedEnd.getMonth()
-                && adjustedStart.getYear() == adjustedEnd.getYear()) {
-            return calculateRepeatTillEndDate(adjustedStart, adjustedEnd);
-        }
-
-        double amount = 0;
-
-        if (adjustedStart.getDayOfMonth() != 1) {
-
-            LocalDate endOfMonth = YearMonth.from(adjustedStart).atEndOfMonth();
-
-            amount = amount + calculateRepeatTillEndDate(adjustedStart,
-                    endOfMonth);
-
-            adjustedStart = YearMonth.from(adjustedStart.plusMonths(1)).atDay(1);
-        }
-
-        //check if adjusted end lies on eom
-        if (adjustedEnd.plusDays(1).getMonth() == adjustedEnd.getMonth()) {
-            LocalDate startOfMonth = YearMonth.from(adjustedEnd).atDay(1);
-            amount = amount + calculateRepeatTillEndDate(startOfMonth, adjustedEnd);
-            adjustedEnd = startOfMonth.minusDays(1);
-        }
-
-
-        amount = amount + calculateForGivenYearMonthRange(YearMonth.from(adjustedStart), YearMonth.from(adjustedEnd));
-
-        return amount;
-
+        return Amount.toDollars(countOccurrences(startDate.getLocalDate(), endDate.getLocalDate()) * this.amount.cents);
     }
 
     /**
@@ -564,24 +372,24 @@ public class Repeat extends BaseExp {
         HashMap<String, Double> output = new HashMap<>();
 
         //if is same month and year
-        if (startDate.localDate.getMonth() == endDate.localDate.getMonth()
-                && startDate.localDate.getYear() == endDate.localDate.getYear()) {
-            output.put(String.valueOf(YearMonth.from(startDate.localDate)),
-                    calculateRepeatTillEndDate(startDate.localDate, endDate.localDate));
+        if (startDate.getLocalDate().getMonth() == endDate.getLocalDate().getMonth()
+                && startDate.getLocalDate().getYear() == endDate.getLocalDate().getYear()) {
+            output.put(String.valueOf(YearMonth.from(startDate.getLocalDate())),
+                    calculateRepeatTillEndDate(startDate.getLocalDate(), endDate.getLocalDate()));
             return output;
         }
 
         // get eom for start date
-        LocalDate endOfMonthOfStartLocalDate = YearMonth.from(startDate.localDate).atEndOfMonth();
-        Date endOfMonthOfStartDate = new Date(endOfMonthOfStartLocalDate.format(DateTimeFormatter.ISO_DATE));
+        LocalDate endOfMonthOfStartLocalDate = YearMonth.from(startDate.getLocalDate()).atEndOfMonth();
+        Date endOfMonthOfStartDate = Date.fromLocalDate(endOfMonthOfStartLocalDate);
 
         //first month expenditure
         output.put(String.valueOf(YearMonth.from(endOfMonthOfStartLocalDate)),
-                calculateRepeatTillEndDate(startDate.localDate, endOfMonthOfStartDate.localDate));
+                calculateRepeatTillEndDate(startDate.getLocalDate(), endOfMonthOfStartDate.getLocalDate()));
 
         //middle months expenditure
-        YearMonth currentMonthYear = YearMonth.from(startDate.localDate.plusMonths(1));
-        YearMonth end = YearMonth.from(endDate.localDate.minusMonths(1));
+        YearMonth currentMonthYear = YearMonth.from(startDate.getLocalDate().plusMonths(1));
+        YearMonth end = YearMonth.from(endDate.getLocalDate().minusMonths(1));
 
         while (!currentMonthYear.isAfter(end)) {
 
@@ -590,11 +398,11 @@ public class Repeat extends BaseExp {
         }
 
         //last month expenditure
-        LocalDate startOfMonthOfEndLocalDate = YearMonth.from(endDate.localDate).atDay(1);
-        Date startOfMonthOfEndDate = new Date(startOfMonthOfEndLocalDate.format(DateTimeFormatter.ISO_DATE));
+        LocalDate startOfMonthOfEndLocalDate = YearMonth.from(endDate.getLocalDate()).atDay(1);
+        Date startOfMonthOfEndDate = Date.fromLocalDate(startOfMonthOfEndLocalDate);
 
         output.put(String.valueOf(YearMonth.from(startOfMonthOfEndLocalDate)),
-                calculateRepeatTillEndDate(startOfMonthOfEndDate.localDate, endDate.localDate));
+                calculateRepeatTillEndDate(startOfMonthOfEndDate.getLocalDate(), endDate.getLocalDate()));
         return output;
     }
 
@@ -609,109 +417,7 @@ public class Repeat extends BaseExp {
             throw new RuntimeException("This method is for calculation within same month and year");
         }
 
-        LocalDate adjustedStart = null;
-        LocalDate adjustedEnd = null;
-
-        if (startLocalDate.isAfter(this.getEndDate().localDate)
-                || endLocalDate.isBefore(this.getStartDate().localDate)) {
-            return 0;
-        }
-
-        if (endDate.localDate.isBefore(startLocalDate)
-                || endDate.localDate.isEqual(startLocalDate)) {
-
-            adjustedStart = startLocalDate;
-
-
-            if (startDate.localDate.isAfter(startLocalDate)
-                    || startDate.localDate.isEqual(startLocalDate)) {
-                adjustedStart = startDate.localDate;
-            }
-            adjustedEnd = endDate.localDate;
-
-        } else {
-            adjustedStart = this.getStartDate().localDate;
-
-            if (startDate.localDate.isBefore(startLocalDate)
-                    || startDate.localDate.isEqual(startLocalDate)) {
-                adjustedStart = startLocalDate;
-            }
-            adjustedEnd = endLocalDate;
-        }
-
-        assert adjustedStart != null && adjustedEnd != null;
-
-        double amount = 0;
-
-        if (this.getPeriod() == Period.WEEKLY) {
-            LocalDate current = null;
-            if (relevantDate.contains(adjustedStart)) {
-                current = adjustedStart;
-            } else {
-
-
-                //check if repeat date is before or after start for start's week
-                if (adjustedStart.getDayOfWeek().getValue()
-                        - startDate.localDate.getDayOfWeek().getValue() > 0) {
-
-                    current = adjustedStart.plusWeeks(1).minusDays(adjustedStart.getDayOfWeek().getValue()
-                            - startDate.localDate.getDayOfWeek().getValue());
-
-                } else if (adjustedStart.getDayOfWeek().getValue()
-                        - startDate.localDate.getDayOfWeek().getValue() < 0) {
-
-                    current = adjustedStart.plusDays(startDate.localDate.getDayOfWeek().getValue()
-                            - adjustedStart.getDayOfWeek().getValue());
-                }
-            }
-            assert current != null;
-            while (!current.isAfter(adjustedEnd)) {
-                amount = amount + this.getAmount().value;
-                current = current.plusWeeks(1);
-            }
-
-            return amount;
-
-        } else if (this.getPeriod() == Period.MONTHLY) {
-
-            //check if the repeat is on last day of mth
-            LocalDate nextDateRepeat = this.getStartDate().localDate.plusDays(1);
-
-            //repeat falls on last day of every month
-            if (nextDateRepeat.getMonth() != this.getStartDate().localDate.getMonth()) {
-
-                //check if endDate is also last day of every month
-                LocalDate nextDateEnd = adjustedEnd.plusDays(1);
-
-                if (nextDateEnd.getMonth() != adjustedStart.getMonth()) {
-                    amount = this.getAmount().value;
-                    return amount;
-                }
-            } else {
-
-                int dayOfMonthRepeat = this.getStartDate().localDate.getDayOfMonth();
-                int adjustedStartDayOfMonth = adjustedStart.getDayOfMonth();
-                int adjustedEndDayOfMonth = adjustedEnd.getDayOfMonth();
-
-                //Check if the repeat day is in between the start and end.
-                if (adjustedStartDayOfMonth <= dayOfMonthRepeat && dayOfMonthRepeat <= adjustedEndDayOfMonth) {
-                    amount = this.getAmount().value;
-                    return amount;
-                }
-            }
-        } else if (this.getPeriod() == Period.ANNUALLY) {
-
-            if (adjustedStart.getMonth()
-                    == this.getStartDate().localDate.getMonth()) {
-                if (adjustedStart.getDayOfMonth()
-                        == this.getStartDate().localDate.getDayOfMonth()) {
-                    amount = this.getAmount().value;
-                    return amount;
-                }
-            }
-        }
-        assert amount == 0;
-        return amount;
+        return Amount.toDollars(countOccurrences(startLocalDate, endLocalDate) * this.amount.cents);
     }
 
 
@@ -0,0 +1,239 @@
+package seedu.saveit.model.expenditure;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An index of repeats by their [start date, end date] interval.
+ * Finding the repeats that are active within a range only visits the repeats overlapping that range,
+ * instead of every repeat ever added.
+ * <p>
+ * The index is an interval tree: a treap of the repeats ordered by start date, in which every node records the
+ * latest end date found in its subtree. Adding or removing a repeat only rebuilds the nodes on the path to it,
+ * in logarithmic time, and leaves every other node as it was, so that a copy of the index can share all of its
+ * nodes with the original.
+ */
+public class RepeatIntervalIndex {
+
+    private Node root;
+    private int size;
+
+    public RepeatIntervalIndex() {
+    }
+
+    /**
+     * Creates an index of the same repeats as {@code toBeCopied}, in constant time.
+     * Changes to either index do not affect the other.
+     */
+    public RepeatIntervalIndex(RepeatIntervalIndex toBeCopied) {
+        requireNonNull(toBeCopied);
+        root = toBeCopied.root;
+        size = toBeCopied.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code repeat} to the index.
+     */
+    public void add(Repeat repeat) {
+        requireNonNull(repeat);
+        root = insert(root, new Node(repeat, null, null));
+        size++;
+    }
+
+    /**
+     * Removes {@code repeat}, which must have been added with the same id and start date, from the index.
+     * Does nothing if it is not in the index.
+     */
+    public void remove(Repeat repeat) {
+        requireNonNull(repeat);
+        long startDay = repeat.getStartDate().getEpochDay();
+        if (find(root, startDay, repeat.getId()) == null) {
+            return;
+        }
+        root = delete(root, startDay, repeat.getId());
+        size--;
+    }
+
+    /**
+     * Removes every repeat from the index.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the repeats whose interval overlaps {@code startDate} to {@code endDate} inclusive,
+     * ordered by start date.
+     */
+    public List<Repeat> getRepeatsOverlapping(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Repeat> found = new ArrayList<>();
+        collect(root, startDate.toEpochDay(), endDate.toEpochDay(), found);
+        return found;
+    }
+
+    /**
+     * Adds the repeats in the subtree of {@code node} that overlap the query to {@code found}, skipping subtrees
+     * that all end before the query or all start after it.
+     */
+    private static void collect(Node node, long queryStart, long queryEnd, List<Repeat> found) {
+        if (node == null || node.maxEndDay < queryStart) {
+            return;
+        }
+
+        collect(node.left, queryStart, queryEnd, found);
+        if (node.startDay > queryEnd) {
+            return;
+        }
+        if (node.endDay >= queryStart) {
+            found.add(node.repeat);
+        }
+        collect(node.right, queryStart, queryEnd, found);
+    }
+
+    private static Node find(Node node, long startDay, long id) {
+        while (node != null) {
+            int comparison = node.compareTo(startDay, id);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison > 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the subtree of {@code node} with {@code added} inserted.
+     */
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] halves = split(node, added.startDay, added.id);
+            return added.withChildren(halves[0], halves[1]);
+        }
+        if (node.compareTo(added.startDay, added.id) > 0) {
+            return node.withChildren(insert(node.left, added), node.right);
+        }
+        return node.withChildren(node.left, insert(node.right, added));
+    }
+
+    /**
+     * Returns the subtree of {@code node} without the node of the given start day and id, which must be in it.
+     */
+    private static Node delete(Node node, long startDay, long id) {
+        int comparison = node.compareTo(startDay, id);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison > 0) {
+            return node.withChildren(delete(node.left, startDay, id), node.right);
+        }
+        return node.withChildren(node.left, delete(node.right, startDay, id));
+    }
+
+    /**
+     * Splits the subtree of {@code node} into the nodes before the given start day and id, and the other nodes.
+     */
+    private static Node[] split(Node node, long startDay, long id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.compareTo(startDay, id) < 0) {
+            Node[] halves = split(node.right, startDay, id);
+            return new Node[] {node.withChildren(node.left, halves[0]), halves[1]};
+        }
+        Node[] halves = split(node.left, startDay, id);
+        return new Node[] {halves[0], node.withChildren(halves[1], node.right)};
+    }
+
+    /**
+     * Joins two subtrees, every node of {@code before} coming before every node of {@code after}.
+     */
+    private static Node merge(Node before, Node after) {
+        if (before == null) {
+            return after;
+        }
+        if (after == null) {
+            return before;
+        }
+        if (before.priority > after.priority) {
+            return before.withChildren(before.left, merge(before.right, after));
+        }
+        return after.withChildren(merge(before, after.left), after.right);
+    }
+
+    /**
+     * An immutable node of the treap. Nodes are ordered by the start day, then the id, of their repeat,
+     * and every node has a higher priority than its children.
+     */
+    private static class Node {
+        private final Repeat repeat;
+        private final long id;
+        private final long startDay;
+        private final long endDay;
+        private final int priority;
+        private final long maxEndDay;
+        private final Node left;
+        private final Node right;
+
+        Node(Repeat repeat, Node left, Node right) {
+            this(repeat, repeat.getId(), repeat.getStartDate().getEpochDay(), repeat.getEndDate().getEpochDay(),
+                    priorityOf(repeat.getId()), left, right);
+        }
+
+        private Node(Repeat repeat, long id, long startDay, long endDay, int priority, Node left, Node right) {
+            this.repeat = repeat;
+            this.id = id;
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            long maxEndDay = endDay;
+            if (left != null) {
+                maxEndDay = Math.max(maxEndDay, left.maxEndDay);
+            }
+            if (right != null) {
+                maxEndDay = Math.max(maxEndDay, right.maxEndDay);
+            }
+            this.maxEndDay = maxEndDay;
+        }
+
+        /**
+         * Returns a node of the same repeat with the given children.
+         */
+        Node withChildren(Node left, Node right) {
+            return new Node(repeat, id, startDay, endDay, priority, left, right);
+        }
+
+        /**
+         * Compares this node with the position of the given start day and id.
+         */
+        int compareTo(long otherStartDay, long otherId) {
+            int comparison = Long.compare(startDay, otherStartDay);
+            return comparison != 0 ? comparison : Long.compare(id, otherId);
+        }
+
+        /**
+         * Scrambles the bits of the id, as ids are given out in order, but the priorities of a treap have to look
+         * random for it to stay balanced.
+         */
+        private static int priorityOf(long id) {
+            long mixed = id * 0x9E3779B97F4A7C15L;
+            mixed ^= mixed >>> 32;
+            mixed *= 0xBF58476D1CE4E5B9L;
+            return (int) (mixed ^ (mixed >>> 29));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.saveit.model.expenditure;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated expenditure amounts in cents, indexed by tag and month and by tag and day.
+ * The month cells answer the months that lie fully within a queried range, while the day cells
+ * answer the partial months at either end of it, so a report never has to revisit the expenditures.
+ */
+public class TagSpendingCube {
+
+    private final HashMap<Tag, TreeMap<YearMonth, Cell>> monthCells = new HashMap<>();
+    private final HashMap<Tag, TreeMap<Long, Cell>> dayCells = new HashMap<>();
+
+    /**
+     * Adds the amount of {@code expenditure} to its cells.
+     */
+    public void add(Expenditure expenditure) {
+        requireNonNull(expenditure);
+        update(expenditure, 1);
+    }
+
+    /**
+     * Removes the amount of {@code expenditure} from its cells.
+     * {@code expenditure} must have been added before.
+     */
+    public void remove(Expenditure expenditure) {
+        requireNonNull(expenditure);
+        update(expenditure, -1);
+    }
+
+    /**
+     * Removes all amounts from the cube.
+     */
+    public void clear() {
+        monthCells.clear();
+        dayCells.clear();
+    }
+
+    /**
+     * Returns the total spending in cents under each tag for each month from {@code startDate} to
+     * {@code endDate} inclusive. Tags and months without any expenditure in the range are left out.
+     */
+    public Map<Tag, Map<YearMonth, Long>> getTotals(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        Map<Tag, Map<YearMonth, Long>> totals = new HashMap<>();
+        if (startDate.isAfter(endDate)) {
+            return totals;
+        }
+
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth endMonth = YearMonth.from(endDate);
+        boolean startsMidMonth = startDate.getDayOfMonth() != 1;
+        boolean endsMidMonth = !endDate.equals(endMonth.atEndOfMonth());
+        for (Tag tag : monthCells.keySet()) {
+            Map<YearMonth, Long> tagTotals = new HashMap<>();
+            monthCells.get(tag).subMap(startMonth, true, endMonth, true)
+                    .forEach((month, cell) -> tagTotals.put(month, cell.total));
+
+            // The first and last months may only be partly covered by the range.
+            if (startMonth.equals(endMonth)) {
+                if (startsMidMonth || endsMidMonth) {
+                    putPartialMonth(tag, startDate, endDate, tagTotals);
+                }
+            } else {
+                if (startsMidMonth) {
+                    putPartialMonth(tag, startDate, startMonth.atEndOfMonth(), tagTotals);
+                }
+                if (endsMidMonth) {
+                    putPartialMonth(tag, endMonth.atDay(1), endDate, tagTotals);
+                }
+            }
+
+            if (!tagTotals.isEmpty()) {
+                totals.put(tag, tagTotals);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Replaces the total of {@code tag} for the month of {@code startDate} with the sum of its day cells
+     * from {@code startDate} to {@code endDate}, both of which lie in the same month.
+     */
+    private void putPartialMonth(Tag tag, LocalDate startDate, LocalDate endDate,
+                                 Map<YearMonth, Long> tagTotals) {
+        YearMonth month = YearMonth.from(startDate);
+        tagTotals.remove(month);
+        Map<Long, Cell> days = dayCells.get(tag).subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true);
+        if (days.isEmpty()) {
+            return;
+        }
+        long total = 0;
+        for (Cell cell : days.values()) {
+            total += cell.total;
+        }
+        tagTotals.put(month, total);
+    }
+
+    /**
+     * Adds {@code sign} times the amount of {@code expenditure} to its month cell and day cell.
+     */
+    private void update(Expenditure expenditure, int sign) {
+        Tag tag = expenditure.getTag();
+        LocalDate date = expenditure.getDate().getLocalDate();
+        long cents = sign * expenditure.getAmount().cents;
+        updateCell(monthCells.computeIfAbsent(tag, unused -> new TreeMap<>()), YearMonth.from(date), cents, sign);
+        updateCell(dayCells.computeIfAbsent(tag, unused -> new TreeMap<>()), date.toEpochDay(), cents, sign);
+        if (monthCells.get(tag).isEmpty()) {
+            monthCells.remove(tag);
+            dayCells.remove(tag);
+        }
+    }
+
+    /**
+     * Adds {@code cents} to the cell at {@code key}, dropping the cell once no expenditure is left in it.
+     */
+    private static <K> void updateCell(TreeMap<K, Cell> cells, K key, long cents, int sign) {
+        Cell cell = cells.computeIfAbsent(key, unused -> new Cell());
+        cell.total += cents;
+        cell.count += sign;
+        if (cell.count <= 0) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * The running total and number of expenditures of one cell.
+     */
+    private static class Cell {
+        private long total;
+        private int count;
+    }
+}
@@ -3,9 +3,17 @@ package seedu.saveit.model.expenditure;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,9 +36,16 @@ import seedu.saveit.model.expenditure.exceptions.ExpenditureNotFoundException;
  */
 public class UniqueExpenditureList implements Iterable<Expenditure> {
 
-    private final ObservableList<Expenditure> internalList = FXCollections.observableArrayList();
+    private final ExpenditureColumnStore internalList = new ExpenditureColumnStore();
     private final ObservableList<Expenditure> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Slots of the expenditures in the list, ordered by the epoch day of their dates.
+    // Also used for the duplicate and existence checks, which only compare the expenditures on the same day.
+    private final TreeMap<Long, List<Integer>> dateIndex = new TreeMap<>();
+    // Slot of each expenditure in the list, by the id of the expenditure.
+    private final HashMap<Long, Integer> slotsById = new HashMap<>();
+    private final TagSpendingCube spendingCube = new TagSpendingCube();
+    private final DailySpendingTree dailySpending = new DailySpendingTree();
 
     public UniqueExpenditureList() {
     }
@@ -44,7 +59,7 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
      */
     public boolean contains(Expenditure toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return findSlot(toCheck) != -1;
     }
 
     /**
@@ -54,6 +69,7 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
     public void add(Expenditure toAdd) {
         requireNonNull(toAdd);
         internalList.add(toAdd);
+        addToIndexes(internalList.slotAt(internalList.size() - 1), toAdd);
     }
 
     /**
@@ -61,12 +77,14 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
      * {@code target} must exist in the list.
      * The expenditure identity of {@code editedExpenditure} must not be the same as another
      * existing expenditure in the list.
+     *
+     * @return the id of the expenditure that was replaced.
      */
-    public void setExpenditure(Expenditure target, Expenditure editedExpenditure) {
+    public long setExpenditure(Expenditure target, Expenditure editedExpenditure) {
         requireAllNonNull(target, editedExpenditure);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int slot = findSlot(target);
+        if (slot == -1) {
             throw new ExpenditureNotFoundException();
         }
 
@@ -74,23 +92,35 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
             throw new DuplicateExpenditureException();
         }
 
-        internalList.set(index, editedExpenditure);
+        long replacedId = internalList.idAt(slot);
+        removeFromIndexes(slot, target);
+        internalList.set(internalList.indexOfSlot(slot), editedExpenditure);
+        addToIndexes(slot, editedExpenditure);
+        return replacedId;
     }
 
     /**
      * Removes the equivalent expenditure from the list.
      * The expenditure must exist in the list.
+     *
+     * @return the id of the expenditure that was removed.
      */
-    public void remove(Expenditure toRemove) {
+    public long remove(Expenditure toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int slot = findSlot(toRemove);
+        if (slot == -1) {
             throw new ExpenditureNotFoundException();
         }
+        long removedId = internalList.idAt(slot);
+        removeFromIndexes(slot, toRemove);
+        internalList.remove(internalList.indexOfSlot(slot));
+        return removedId;
     }
 
     public void setExpenditures(UniqueExpenditureList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -100,6 +130,15 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
     public void setExpenditures(List<Expenditure> expenditures) {
         requireAllNonNull(expenditures);
         internalList.setAll(expenditures);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the expenditure with the given {@code id}, if it is in the list.
+     */
+    public Optional<Expenditure> getById(long id) {
+        Integer slot = slotsById.get(id);
+        return slot == null ? Optional.empty() : Optional.of(internalList.materialize(slot));
     }
 
     /**
@@ -110,19 +149,44 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
     }
 
     /**
-     * calculate total amount of expenditure for a given yearMonth.
-     * @param givenYearMonth the given period of time.
-     * @return a double which denotes the total amount.
+     * Returns the expenditures on {@code date}, in the order they were added.
      */
-    public double calculateExpenditureAmount(YearMonth givenYearMonth) {
-        double total = 0;
-        int size = internalList.size();
-        for (int i = 0; i < size; i++) {
-            if (internalList.get(i).getDate().isOn(givenYearMonth)) {
-                total += internalList.get(i).getAmount().value;
-            }
+    public List<Expenditure> getExpendituresOn(LocalDate date) {
+        requireNonNull(date);
+        List<Integer> sameDay = dateIndex.get(date.toEpochDay());
+        if (sameDay == null) {
+            return Collections.emptyList();
         }
-        return total;
+        return sameDay.stream().map(internalList::materialize).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the expenditures from {@code startDate} to {@code endDate} inclusive, ordered by date.
+     */
+    public List<Expenditure> getExpendituresFromToInclusive(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Expenditure> inRange = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return inRange;
+        }
+        dateIndex.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true)
+                .values().forEach(slots -> slots.forEach(slot -> inRange.add(internalList.materialize(slot))));
+        return inRange;
+    }
+
+    /**
+     * Returns the total spending in cents under each tag for each month from {@code startDate} to {@code endDate}
+     * inclusive.
+     */
+    public Map<Tag, Map<YearMonth, Long>> getTotalsByTagAndMonth(LocalDate startDate, LocalDate endDate) {
+        return spendingCube.getTotals(startDate, endDate);
+    }
+
+    /**
+     * Returns the total amount of the expenditures from {@code startDate} to {@code endDate} inclusive, in cents.
+     */
+    public long getTotalFromToInclusive(LocalDate startDate, LocalDate endDate) {
+        return dailySpending.getTotal(startDate, endDate);
     }
 
     @Override
@@ -143,6 +207,72 @@ public class UniqueExpenditureList implements Iterable<Expenditure> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the slot of an expenditure in the list that is equal to {@code expenditure}, or -1 if there is none.
+     * The expenditure with the same id is checked first, so looking up an expenditure taken from this list
+     * does not compare it with the other expenditures on the same day.
+     */
+    private int findSlot(Expenditure expenditure) {
+        Integer sameId = slotsById.get(expenditure.getId());
+        if (sameId != null && internalList.matches(sameId, expenditure)) {
+            return sameId;
+        }
+
+        List<Integer> sameDay = dateIndex.get((long) expenditure.getDate().getEpochDay());
+        if (sameDay == null) {
+            return -1;
+        }
+        for (int slot : sameDay) {
+            if (internalList.matches(slot, expenditure)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds {@code expenditure}, stored in {@code slot}, to the indexes.
+     */
+    private void addToIndexes(int slot, Expenditure expenditure) {
+        slotsById.put(expenditure.getId(), slot);
+        spendingCube.add(expenditure);
+        dailySpending.add(expenditure.getDate().getLocalDate(), expenditure.getAmount().cents);
+        dateIndex.computeIfAbsent((long) expenditure.getDate().getEpochDay(), unused -> new ArrayList<>())
+                .add(slot);
+    }
+
+    /**
+     * Removes {@code expenditure}, stored in {@code slot}, from the indexes, dropping entries that become empty.
+     */
+    private void removeFromIndexes(int slot, Expenditure expenditure) {
+        slotsById.remove(internalList.idAt(slot), slot);
+        spendingCube.remove(expenditure);
+        dailySpending.add(expenditure.getDate().getLocalDate(), -expenditure.getAmount().cents);
+
+        long epochDay = expenditure.getDate().getEpochDay();
+        List<Integer> sameDay = dateIndex.get(epochDay);
+        if (sameDay == null) {
+            return;
+        }
+        sameDay.remove(Integer.valueOf(slot));
+        if (sameDay.isEmpty()) {
+            dateIndex.remove(epochDay);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from the backing list.
+     */
+    private void rebuildIndexes() {
+        dateIndex.clear();
+        slotsById.clear();
+        spendingCube.clear();
+        dailySpending.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            addToIndexes(internalList.slotAt(i), internalList.get(i));
+        }
+    }
+
     /**
      * Returns true if {@code expenditures} contains only unique expenditures.
      */
@@ -0,0 +1,133 @@
+package seedu.saveit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list that can be replaced by new contents through the smallest set of insertions and removals,
+ * reported to listeners as a single change. Elements that are in both the old and the new contents are kept,
+ * so views only re-render the rows that actually changed. Elements are taken to be the same if they are equal,
+ * unless the list is created with a stricter test of sameness.
+ *
+ * @param <E> the type of the elements.
+ */
+public class DiffingObservableList<E> extends ModifiableObservableListBase<E> {
+
+    // Above this many cells in the edit table, the contents are replaced outright instead of diffed.
+    private static final long MAX_DIFF_CELLS = 1 << 20;
+
+    private final List<E> elements = new ArrayList<>();
+    private final BiPredicate<? super E, ? super E> isSame;
+
+    public DiffingObservableList() {
+        this(Objects::equals);
+    }
+
+    /**
+     * Creates a list that only keeps an element when {@code isSame} tells it is the same as the new element,
+     * such as when equal elements can still be told apart, and the new one should replace the old one.
+     */
+    public DiffingObservableList(BiPredicate<? super E, ? super E> isSame) {
+        requireNonNull(isSame);
+        this.isSame = isSame;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newContents}, firing a single change that only
+     * inserts and removes the elements that differ.
+     */
+    public void update(List<? extends E> newContents) {
+        requireNonNull(newContents);
+        beginChange();
+        try {
+            int prefix = 0;
+            while (prefix < size() && prefix < newContents.size()
+                    && isSame.test(get(prefix), newContents.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < size() - prefix && suffix < newContents.size() - prefix
+                    && isSame.test(get(size() - 1 - suffix), newContents.get(newContents.size() - 1 - suffix))) {
+                suffix++;
+            }
+
+            List<E> oldMiddle = new ArrayList<>(elements.subList(prefix, size() - suffix));
+            List<? extends E> newMiddle = newContents.subList(prefix, newContents.size() - suffix);
+            if ((long) oldMiddle.size() * newMiddle.size() > MAX_DIFF_CELLS) {
+                remove(prefix, prefix + oldMiddle.size());
+                addAll(prefix, newMiddle);
+            } else {
+                applyEdits(prefix, oldMiddle, newMiddle);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Turns {@code oldMiddle}, found at {@code offset} in this list, into {@code newMiddle}, keeping a longest
+     * common subsequence of the two in place.
+     */
+    private void applyEdits(int offset, List<E> oldMiddle, List<? extends E> newMiddle) {
+        int oldSize = oldMiddle.size();
+        int newSize = newMiddle.size();
+        // common[i][j] is the length of the longest common subsequence of oldMiddle[i..] and newMiddle[j..].
+        int[][] common = new int[oldSize + 1][newSize + 1];
+        for (int i = oldSize - 1; i >= 0; i--) {
+            for (int j = newSize - 1; j >= 0; j--) {
+                common[i][j] = isSame.test(oldMiddle.get(i), newMiddle.get(j))
+                        ? common[i + 1][j + 1] + 1
+                        : Math.max(common[i + 1][j], common[i][j + 1]);
+            }
+        }
+
+        int position = offset;
+        int i = 0;
+        int j = 0;
+        while (i < oldSize || j < newSize) {
+            if (i < oldSize && j < newSize && isSame.test(oldMiddle.get(i), newMiddle.get(j))) {
+                position++;
+                i++;
+                j++;
+            } else if (j < newSize && (i == oldSize || common[i][j + 1] >= common[i + 1][j])) {
+                add(position, newMiddle.get(j));
+                position++;
+                j++;
+            } else {
+                remove(position);
+                i++;
+            }
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,451 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.model.expenditure.BaseExp;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+
+/**
+ * An append-only journal of the changes made to an account list since its snapshot was last written.
+ * Each save appends one compact JSON record per changed entry, budget or account, and forces it to disk,
+ * so the cost of a save depends on what changed rather than on how much data there is.
+ * Reading the account list replays the journal over the snapshot.
+ * <p>
+ * Replaying a record twice has the same effect as replaying it once, so replaying a journal over a snapshot
+ * that already contains its changes gives the same account list. This happens if the app stops after a new
+ * snapshot is written but before the journal is deleted.
+ */
+class AccountListJournal {
+
+    public static final String MESSAGE_ENTRY_WITHOUT_ID =
+            "The journal cannot be replayed over expenditures or repeats without ids.";
+
+    // Size of the journal, in bytes, from which it should be folded into a new snapshot.
+    static final long COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AccountListJournal.class);
+    private static final String FILE_SUFFIX = ".journal";
+
+    private final Path journalFile;
+    // Version of each account as it is on disk, by account name, or null if what is on disk is not known.
+    private Map<String, Account.Version> savedVersions;
+    private String savedActiveAccountName;
+
+    /**
+     * Creates the journal of the snapshot at {@code snapshotFile}.
+     */
+    AccountListJournal(Path snapshotFile) {
+        journalFile = getJournalFile(snapshotFile);
+    }
+
+    /**
+     * Returns the location of the journal of the snapshot at {@code snapshotFile}.
+     */
+    static Path getJournalFile(Path snapshotFile) {
+        return snapshotFile.resolveSibling(snapshotFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Remembers {@code accountList} as what is on disk, so that the next save only records what changed since.
+     */
+    void remember(ReadOnlyAccountList accountList) {
+        savedVersions = new HashMap<>();
+        accountList.getAccounts().forEach((name, account) -> savedVersions.put(name, account.getVersion()));
+        savedActiveAccountName = accountList.getActiveAccountName();
+    }
+
+    /**
+     * Forgets what is on disk, so that the next save has to write a snapshot.
+     */
+    void forget() {
+        savedVersions = null;
+        savedActiveAccountName = null;
+    }
+
+    /**
+     * Appends the changes made to {@code accountList} since it was remembered to the journal,
+     * and remembers it as it is now.
+     *
+     * @return false if nothing was appended because what is on disk is not known.
+     * @throws IOException if the journal could not be written to. What is on disk is then forgotten.
+     */
+    boolean append(ReadOnlyAccountList accountList) throws IOException {
+        if (savedVersions == null) {
+            return false;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Map<String, Account> accounts = accountList.getAccounts();
+        Map<String, Account.Version> versions = new HashMap<>(savedVersions);
+        addAccountRecords(records, accounts, versions);
+        for (Map.Entry<String, Account> entry : accounts.entrySet()) {
+            Account.Version savedVersion = versions.get(entry.getKey());
+            Optional<Account.Changes> changes = savedVersion == null
+                    ? Optional.empty()
+                    : entry.getValue().getChangesSince(savedVersion);
+            if (changes.isPresent()) {
+                addChangeRecords(records, entry.getKey(), entry.getValue(), changes.get());
+            } else {
+                addResetRecords(records, entry.getKey(), entry.getValue());
+            }
+        }
+        if (!Objects.equals(savedActiveAccountName, accountList.getActiveAccountName())) {
+            records.add(JsonAdaptedJournalRecord.setActiveAccount(accountList.getActiveAccountName()));
+        }
+
+        if (!records.isEmpty()) {
+            write(records);
+        }
+        remember(accountList);
+        return true;
+    }
+
+    /**
+     * Returns true if the journal is large enough for it to be folded into a new snapshot.
+     */
+    boolean needsCompaction() throws IOException {
+        return Files.exists(journalFile) && Files.size(journalFile) >= COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Adds the records of the accounts that were removed or renamed to {@code records}.
+     * A new account whose contents continue from those of a removed account is taken to be that account renamed.
+     *
+     * @param versions saved versions by account name, which are moved to the new names of renamed accounts.
+     */
+    private static void addAccountRecords(List<JsonAdaptedJournalRecord> records, Map<String, Account> accounts,
+                                          Map<String, Account.Version> versions) {
+        List<String> goneNames = new ArrayList<>();
+        for (String savedName : versions.keySet()) {
+            if (!accounts.containsKey(savedName)) {
+                goneNames.add(savedName);
+            }
+        }
+
+        for (Map.Entry<String, Account> entry : accounts.entrySet()) {
+            if (goneNames.isEmpty()) {
+                break;
+            }
+            if (versions.containsKey(entry.getKey())) {
+                continue;
+            }
+            for (String goneName : goneNames) {
+                if (entry.getValue().getChangesSince(versions.get(goneName)).isPresent()) {
+                    records.add(JsonAdaptedJournalRecord.renameAccount(goneName, entry.getKey()));
+                    versions.put(entry.getKey(), versions.remove(goneName));
+                    goneNames.remove(goneName);
+                    break;
+                }
+            }
+        }
+
+        for (String goneName : goneNames) {
+            records.add(JsonAdaptedJournalRecord.removeAccount(goneName));
+            versions.remove(goneName);
+        }
+    }
+
+    /**
+     * Adds the records of {@code changes} to the account named {@code name} to {@code records}.
+     */
+    private static void addChangeRecords(List<JsonAdaptedJournalRecord> records, String name, Account account,
+                                         Account.Changes changes) {
+        for (long id : changes.getEntryIds()) {
+            Optional<BaseExp> entry = account.getEntryById(id);
+            if (!entry.isPresent()) {
+                records.add(JsonAdaptedJournalRecord.removeEntry(name, id));
+            } else if (entry.get() instanceof Expenditure) {
+                records.add(JsonAdaptedJournalRecord.putExpenditure(name, (Expenditure) entry.get()));
+            } else {
+                records.add(JsonAdaptedJournalRecord.putRepeat(name, (Repeat) entry.get()));
+            }
+        }
+        for (YearMonth month : changes.getBudgetMonths()) {
+            Double budget = account.getBudget(month);
+            if (budget != null) {
+                records.add(JsonAdaptedJournalRecord.setBudget(name, month, budget));
+            }
+        }
+    }
+
+    /**
+     * Adds the records that replace the account named {@code name} with all of the contents of {@code account}
+     * to {@code records}.
+     */
+    private static void addResetRecords(List<JsonAdaptedJournalRecord> records, String name, Account account) {
+        records.add(JsonAdaptedJournalRecord.resetAccount(name));
+        for (Expenditure expenditure : account.getExpenditureList()) {
+            records.add(JsonAdaptedJournalRecord.putExpenditure(name, expenditure));
+        }
+        for (Repeat repeat : account.getRepeatList()) {
+            records.add(JsonAdaptedJournalRecord.putRepeat(name, repeat));
+        }
+        account.getBudgetList().getBudgets().forEach((month, budget) ->
+                records.add(JsonAdaptedJournalRecord.setBudget(name, month, budget)));
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line.
+     */
+    private void write(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        try {
+            FileUtil.createParentDirsOfFile(journalFile);
+            FileUtil.appendToFile(journalFile, lines.toString());
+        } catch (IOException ioe) {
+            // A record may have been partly written, so the journal must not be appended to again.
+            forget();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Replays the journal of the snapshot at {@code snapshotFile}, if there is one, over {@code data},
+     * which was read from the snapshot.
+     * A last record that was cut short, because the app stopped while writing it, is left out.
+     *
+     * @return true if the whole journal was replayed, and so it can be appended to.
+     * @throws DataConversionException if the journal cannot be read or is not in the expected format.
+     */
+    static boolean replay(ReplayedAccountList data, Path snapshotFile) throws DataConversionException {
+        Path journalFile = getJournalFile(snapshotFile);
+        if (!Files.exists(journalFile)) {
+            return true;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        boolean isComplete = true;
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+                } catch (IOException ioe) {
+                    if (i < lines.size() - 1) {
+                        throw new DataConversionException(ioe);
+                    }
+                    logger.warning("Leaving out the last record of journal file " + journalFile
+                            + ", which was not fully written: " + ioe);
+                    isComplete = false;
+                    break;
+                }
+                data.apply(record);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        data.finish();
+        return isComplete;
+    }
+
+    /**
+     * Returns a new account with the name of {@code account}, holding its contents with the changes applied.
+     * The changed entries are given by id, and are empty if they were removed. Changed entries keep their place,
+     * and new entries are added after the others.
+     */
+    static Account applyChanges(Account account, Map<Long, Optional<BaseExp>> changedEntries,
+                                Map<YearMonth, Double> changedBudgets) {
+        Map<Long, BaseExp> entries = new LinkedHashMap<>();
+        account.getExpenditureList().forEach(expenditure -> entries.put(expenditure.getId(), expenditure));
+        account.getRepeatList().forEach(repeat -> entries.put(repeat.getId(), repeat));
+        changedEntries.forEach((id, entry) -> {
+            if (entry.isPresent()) {
+                entries.put(id, entry.get());
+            } else {
+                entries.remove(id);
+            }
+        });
+        Map<YearMonth, Double> budgets = new HashMap<>(account.getBudgetList().getBudgets());
+        budgets.putAll(changedBudgets);
+
+        Account changed = new Account(account.getAccountName());
+        for (BaseExp entry : entries.values()) {
+            if (entry instanceof Expenditure) {
+                changed.addExpenditure((Expenditure) entry);
+            } else {
+                changed.addRepeat((Repeat) entry);
+            }
+        }
+        budgets.forEach((month, budget) -> changed.setBudget(month, new Amount(budget)));
+        return changed;
+    }
+
+    /**
+     * The accounts read from a snapshot, in the order they were read, and the name of the account to be made
+     * active, while a journal is replayed over them.
+     * The changes to the entries and budgets of each account are kept by id until all the records are applied.
+     * They are then applied to the accounts that are loaded, and to the others when they are first used,
+     * so that replaying the journal does not load them.
+     */
+    static class ReplayedAccountList {
+        private final List<ReplayedAccount> accounts = new ArrayList<>();
+        private final Map<String, ReplayedAccount> accountsByName = new HashMap<>();
+        private String currentAccount;
+
+        ReplayedAccountList(List<Account> accounts, String currentAccount) {
+            for (Account account : accounts) {
+                ReplayedAccount replayed = new ReplayedAccount(account);
+                this.accounts.add(replayed);
+                accountsByName.put(account.getAccountName(), replayed);
+            }
+            this.currentAccount = currentAccount;
+        }
+
+        /**
+         * Returns the accounts with the journal replayed over them, in the order they were read or created.
+         */
+        List<Account> getAccounts() {
+            List<Account> replayedAccounts = new ArrayList<>();
+            accounts.forEach(replayed -> replayedAccounts.add(replayed.account));
+            return replayedAccounts;
+        }
+
+        String getCurrentAccount() {
+            return currentAccount;
+        }
+
+        /**
+         * Applies {@code record}. Records of accounts that do not exist are left out.
+         */
+        private void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+            record.checkFields();
+            String name = record.getAccount();
+            ReplayedAccount account = accountsByName.get(name);
+
+            switch (record.getType()) {
+            case RESET_ACCOUNT:
+                if (account == null) {
+                    account = new ReplayedAccount(new Account(name));
+                    accounts.add(account);
+                    accountsByName.put(name, account);
+                }
+                account.reset();
+                break;
+            case REMOVE_ACCOUNT:
+                if (account != null) {
+                    accounts.remove(account);
+                    accountsByName.remove(name);
+                }
+                break;
+            case RENAME_ACCOUNT:
+                if (account != null && !accountsByName.containsKey(record.getNewName())) {
+                    account.rename(record.getNewName());
+                    accountsByName.remove(name);
+                    accountsByName.put(record.getNewName(), account);
+                }
+                break;
+            case SET_ACTIVE_ACCOUNT:
+                currentAccount = name;
+                break;
+            default:
+                if (account != null) {
+                    account.apply(record);
+                }
+            }
+        }
+
+        /**
+         * Applies the changes kept to the accounts.
+         */
+        private void finish() {
+            accounts.forEach(ReplayedAccount::finish);
+        }
+    }
+
+    /**
+     * An account while a journal is replayed over it, with the changes to its entries and budgets by id.
+     */
+    private static class ReplayedAccount {
+        private Account account;
+        private boolean isReset = false;
+        private final Map<Long, Optional<BaseExp>> changedEntries = new LinkedHashMap<>();
+        private final Map<YearMonth, Double> changedBudgets = new HashMap<>();
+
+        private ReplayedAccount(Account account) {
+            this.account = account;
+        }
+
+        private void rename(String newName) {
+            Account renamed = account.copyAccountWithNewName(newName);
+            account.discard();
+            account = renamed;
+        }
+
+        private void reset() {
+            isReset = true;
+            changedEntries.clear();
+            changedBudgets.clear();
+        }
+
+        /**
+         * Applies {@code record}, which changes an entry or a budget of the account.
+         */
+        private void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+            switch (record.getType()) {
+            case PUT_EXPENDITURE:
+                changedEntries.put(record.getExpenditure().getId(),
+                        Optional.of(record.getExpenditure().toModelType()));
+                break;
+            case PUT_REPEAT:
+                changedEntries.put(record.getRepeat().getId(), Optional.of(record.getRepeat().toModelType()));
+                break;
+            case REMOVE_ENTRY:
+                changedEntries.put(record.getId(), Optional.empty());
+                break;
+            case SET_BUDGET:
+                changedBudgets.put(YearMonth.parse(record.getMonth()), record.getBudget());
+                break;
+            default:
+                assert false : "Record does not change the contents of an account: " + record.getType();
+            }
+        }
+
+        private void finish() {
+            if (isReset) {
+                account = applyChanges(new Account(account.getAccountName()), changedEntries, changedBudgets);
+            } else if (changedEntries.isEmpty() && changedBudgets.isEmpty()) {
+                return;
+            } else if (account.isLoaded()) {
+                account = applyChanges(account, changedEntries, changedBudgets);
+            } else {
+                // Named as it is now, as the loaded contents keep the name the account had when it was read.
+                String name = account.getAccountName();
+                AccountLoader loader = account.getPendingLoader().get();
+                account = new Account(name, () -> applyChanges(loader.load(), changedEntries, changedBudgets));
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.expenditure.BaseExp;
+
+/**
+ * Writes the account lists saved to another {@code SaveItStorage} on a background thread, so that saving
+ * only takes a snapshot of the account list before returning.
+ * The snapshot only holds the entries and budgets changed since the last snapshot, which the background thread
+ * applies to the contents of the last snapshot before encoding them into bytes. So saving takes time proportional
+ * to what changed, and modifying the account list while it is written does not have to copy it.
+ * Account lists saved while an earlier one is still being written are merged: only the latest one is written.
+ * As failures to write happen after saving has returned, they are passed to the save failure handler,
+ * including those that are not {@code IOException}s, such as an account that cannot be loaded.
+ */
+public class BackgroundSaveItStorage implements SaveItStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaveItStorage.class);
+
+    private final SaveItStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SaveIt writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> { };
+    // Contents of the loaded accounts in the last snapshot, by account.
+    // Only used by the thread saving the account lists.
+    private Map<Account, AccountContents> lastContents = new IdentityHashMap<>();
+
+    // Snapshots waiting to be written, by the file they are written to, oldest first. Guarded by this.
+    private final Map<Path, AccountList> pendingSnapshots = new LinkedHashMap<>();
+
+    public BackgroundSaveItStorage(SaveItStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler told of the failures to write the account lists saved.
+     * It is called on the background thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public Path getSaveItFilePath() {
+        return storage.getSaveItFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAccountList> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(storage.getSaveItFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}.
+     * Waits until the account lists saved have been written first, so that the latest one is read.
+     */
+    @Override
+    public Optional<ReadOnlyAccountList> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readSaveIt(filePath);
+    }
+
+    @Override
+    public ReadOnlyAccountList readSampleSaveIt() {
+        return storage.readSampleSaveIt();
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlyAccountList addressBook) {
+        saveSaveIt(addressBook, storage.getSaveItFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlyAccountList)}.
+     * If an account list saved before to {@code filePath} has not been written yet,
+     * it is replaced by {@code addressBook}.
+     */
+    @Override
+    public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AccountList snapshot = snapshotOf(addressBook);
+        synchronized (this) {
+            if (pendingSnapshots.put(filePath, snapshot) == null) {
+                writer.execute(this::writeOldestPendingSnapshot);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code accountList} that can be written on the background thread while
+     * {@code accountList} keeps being modified. The accounts not loaded yet are copied with their loader.
+     * The loaded accounts are copied with the entries and budgets changed since the last snapshot, so this takes
+     * time proportional to the number of changes. The accounts whose changes are not known, such as those
+     * not in the last snapshot, share their stores with the snapshot until the background thread has encoded them.
+     */
+    private AccountList snapshotOf(ReadOnlyAccountList accountList) {
+        Map<Account, AccountContents> snapshotContents = new IdentityHashMap<>();
+        List<Account> accounts = new ArrayList<>();
+        for (Account account : accountList.getAccounts().values()) {
+            Optional<AccountLoader> loader = account.getPendingLoader();
+            if (loader.isPresent()) {
+                accounts.add(account.snapshotWith(loader.get()));
+                continue;
+            }
+            AccountContents contents = AccountContents.of(account, lastContents.get(account));
+            snapshotContents.put(account, contents);
+            accounts.add(account.snapshotWith(contents));
+        }
+        lastContents = snapshotContents;
+        return AccountList.of(accounts, accountList.getActiveAccountName());
+    }
+
+    /**
+     * Returns {@code snapshot} with the contents of its accounts encoded into blocks.
+     * This is done on the background thread, before the snapshot is written.
+     */
+    private static AccountList encodeContents(AccountList snapshot) throws IllegalValueException {
+        List<Account> accounts = new ArrayList<>();
+        for (Account account : snapshot.getAccounts().values()) {
+            Optional<AccountLoader> loader = account.getPendingLoader();
+            if (loader.isPresent() && loader.get() instanceof AccountContents) {
+                accounts.add(account.snapshotWith(((AccountContents) loader.get()).encode()));
+            } else {
+                accounts.add(account);
+            }
+        }
+        return AccountList.of(accounts, snapshot.getActiveAccountName());
+    }
+
+    private void writeOldestPendingSnapshot() {
+        Path filePath;
+        AccountList snapshot;
+        synchronized (this) {
+            Iterator<Map.Entry<Path, AccountList>> oldestFirst = pendingSnapshots.entrySet().iterator();
+            Map.Entry<Path, AccountList> oldest = oldestFirst.next();
+            oldestFirst.remove();
+            filePath = oldest.getKey();
+            snapshot = oldest.getValue();
+        }
+
+        try {
+            storage.saveSaveIt(encodeContents(snapshot), filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file " + filePath + ": " + StringUtil.getDetails(ioe));
+            saveFailureHandler.accept(ioe);
+        } catch (IllegalValueException | RuntimeException e) {
+            // Thrown here, they would be kept by the executor without anyone being told the write failed.
+            logger.warning("Failed to write data file " + filePath + ": " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(new IOException(e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Waits until the account lists saved so far have been written, or have failed to be written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for the data file to be written");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Waiting does not fail", ee);
+        }
+    }
+
+    /**
+     * The contents of a loaded account in a snapshot, which are encoded into a block on the background thread.
+     * They are taken either as the entries and budgets changed since the contents of the account in an earlier
+     * snapshot, or, if those changes are not known, as a copy of the account sharing its stores.
+     */
+    private static class AccountContents implements AccountLoader {
+        private final Account.Version version;
+        // The fields below are guarded by this. Only encoded is kept once the contents are encoded.
+        private AccountContents previous;
+        private Map<Long, Optional<BaseExp>> changedEntries;
+        private Map<YearMonth, Double> changedBudgets;
+        private Account share;
+        private AccountLoader encoded;
+
+        private AccountContents(Account.Version version) {
+            this.version = version;
+        }
+
+        /**
+         * Returns the contents of {@code account} as it is now, taken from the changes made to it since it had
+         * the contents {@code last}, which may be null.
+         */
+        static AccountContents of(Account account, AccountContents last) {
+            Account.Version version = account.getVersion();
+            if (last != null && last.version.equals(version)) {
+                return last;
+            }
+
+            AccountContents contents = new AccountContents(version);
+            Optional<Account.Changes> changes = last == null
+                    ? Optional.empty()
+                    : account.getChangesSince(last.version);
+            if (!changes.isPresent()) {
+                contents.share = account.copyAccountWithNewName(account.getAccountName());
+                return contents;
+            }
+            contents.previous = last;
+            contents.changedEntries = new LinkedHashMap<>();
+            for (long id : changes.get().getEntryIds()) {
+                contents.changedEntries.put(id, account.getEntryById(id));
+            }
+            contents.changedBudgets = new HashMap<>();
+            for (YearMonth month : changes.get().getBudgetMonths()) {
+                Double budget = account.getBudget(month);
+                if (budget != null) {
+                    contents.changedBudgets.put(month, budget);
+                }
+            }
+            return contents;
+        }
+
+        /**
+         * Encodes the contents into a block, if they have not been encoded yet, and returns the block.
+         */
+        synchronized AccountLoader encode() throws IllegalValueException {
+            if (encoded == null) {
+                if (share != null) {
+                    encoded = BinaryAccountListWriter.encodeToBlock(share);
+                    share.discard();
+                } else {
+                    encoded = BinaryAccountListWriter.encodeToBlock(
+                            AccountListJournal.applyChanges(previous.load(), changedEntries, changedBudgets));
+                }
+                previous = null;
+                changedEntries = null;
+                changedBudgets = null;
+                share = null;
+            }
+            return encoded;
+        }
+
+        @Override
+        public Account load() throws IllegalValueException {
+            return encode().load();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.model.expenditure.Date;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Info;
+import seedu.saveit.model.expenditure.Repeat;
+import seedu.saveit.model.expenditure.Tag;
+
+/**
+ * Reads an account list written by {@link BinaryAccountListWriter}.
+ * Only the active account is converted into the model's objects. The other accounts keep their blocks, and are
+ * converted when they are first used.
+ */
+class BinaryAccountListReader {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file is in binary format version %d, "
+            + "which this version of the app cannot read.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Data file refers to a string it does not contain.";
+
+    private BinaryAccountListReader() {}
+
+    /**
+     * Reads the account list in {@code buffer}. The blocks of the accounts not converted yet keep using the bytes
+     * of {@code buffer}, so they must not be changed afterwards.
+     *
+     * @throws IllegalValueException if the buffer is not in the binary format, if there were any data constraints
+     *     violated in the active account, or if there are duplicate accounts.
+     */
+    static AccountList read(ByteBuffer buffer) throws IllegalValueException {
+        BinaryDecoder decoder = new BinaryDecoder(buffer);
+        if (!Arrays.equals(decoder.readBytes(BinaryAccountListStorage.MAGIC.length), BinaryAccountListStorage.MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        long formatVersion = decoder.readVarLong();
+        if (formatVersion != BinaryAccountListStorage.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+
+        String[] strings = new String[decoder.readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = decoder.readString();
+        }
+        String currentAccount = stringAt(strings, decoder.readVarInt());
+        int accountCount = decoder.readCount();
+        List<AccountBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < accountCount; i++) {
+            blocks.add(new AccountBlock(decoder.readBlock(), strings));
+        }
+
+        // The active account is the current account if it exists, or else the last account, as in JSON files.
+        String activeAccountName = null;
+        for (AccountBlock block : blocks) {
+            activeAccountName = block.getAccountName();
+            if (Objects.equals(activeAccountName, currentAccount)) {
+                break;
+            }
+        }
+
+        AccountList accountList = new AccountList(false);
+        for (AccountBlock block : blocks) {
+            Account account = Objects.equals(block.getAccountName(), activeAccountName)
+                    ? block.load()
+                    : new Account(block.getAccountName(), block);
+            if (accountList.hasAccount(account)) {
+                throw new IllegalValueException(JsonSerializableAccountList.MESSAGE_DUPLICATE_ACCOUNT);
+            }
+            accountList.addAccount(account);
+        }
+
+        accountList.updateActiveAccount(activeAccountName);
+        return accountList;
+    }
+
+    /**
+     * Returns the string {@code ref} refers to in {@code strings}, or null if {@code ref} is zero.
+     */
+    private static String stringAt(String[] strings, int ref) throws IllegalValueException {
+        if (ref > strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return ref == 0 ? null : strings[ref - 1];
+    }
+
+    /**
+     * The block of one account, kept as the loader of the account until the account is first used.
+     */
+    static class AccountBlock implements AccountLoader {
+
+        private final ByteBuffer block;
+        private final String[] strings;
+        private final String accountName;
+        // Where the contents of the account start in the block, after its name.
+        private final int contentsPosition;
+
+        AccountBlock(ByteBuffer block, String[] strings) throws IllegalValueException {
+            this.block = block;
+            this.strings = strings;
+            BinaryDecoder decoder = new BinaryDecoder(block);
+            accountName = stringAt(strings, decoder.readVarInt());
+            contentsPosition = block.position();
+        }
+
+        String getAccountName() {
+            return accountName;
+        }
+
+        /**
+         * Returns a decoder of the contents of the account. Each decoder has its own position in the block,
+         * so that the account can be loaded and copied at the same time.
+         */
+        private BinaryDecoder contentsDecoder() {
+            ByteBuffer contents = block.duplicate();
+            contents.position(contentsPosition);
+            return new BinaryDecoder(contents);
+        }
+
+        /**
+         * Converts the block into the model's {@code Account}. Each distinct info and tag is only checked once,
+         * and is shared by the entries that use it.
+         *
+         * @throws IllegalValueException if the block is corrupted, or there were any data constraints violated.
+         */
+        @Override
+        public Account load() throws IllegalValueException {
+            BinaryDecoder decoder = contentsDecoder();
+            Info[] infos = new Info[strings.length + 1];
+            Tag[] tags = new Tag[strings.length + 1];
+            Account account = new Account(accountName);
+
+            int expenditureCount = decoder.readCount();
+            for (int i = 0; i < expenditureCount; i++) {
+                long id = decoder.readVarLong();
+                Info info = toInfo(infos, decoder.readVarInt());
+                Tag tag = toTag(tags, decoder.readVarInt());
+                Amount amount = toAmount(decoder.readVarLong());
+                Date date = Date.fromEpochDay(decoder.readZigZagInt());
+                account.addExpenditure(new Expenditure(id, info, amount, date, tag));
+            }
+
+            int repeatCount = decoder.readCount();
+            for (int i = 0; i < repeatCount; i++) {
+                long id = decoder.readVarLong();
+                Info info = toInfo(infos, decoder.readVarInt());
+                Tag tag = toTag(tags, decoder.readVarInt());
+                Amount amount = toAmount(decoder.readVarLong());
+                Date startDate = Date.fromEpochDay(decoder.readZigZagInt());
+                Date endDate = Date.fromEpochDay(decoder.readZigZagInt());
+                String period = stringAt(strings, decoder.readVarInt());
+                if (period == null || !Repeat.Period.isValidPeriod(period)) {
+                    throw new IllegalValueException(Repeat.PERIOD_MESSAGE_CONSTRAINTS);
+                }
+                account.addRepeat(new Repeat(id, info, amount, startDate, endDate, tag, period));
+            }
+
+            int budgetCount = decoder.readCount();
+            for (int i = 0; i < budgetCount; i++) {
+                YearMonth yearMonth = toYearMonth(decoder.readZigZagInt());
+                account.setBudget(yearMonth, toAmount(decoder.readVarLong()));
+            }
+            return account;
+        }
+
+        /**
+         * Writes the contents of the account with {@code writer}, as they were read.
+         *
+         * @throws IllegalValueException if the block is corrupted.
+         */
+        void copyContentsTo(BinaryAccountListWriter writer, BinaryEncoder encoder)
+                throws IllegalValueException, IOException {
+            BinaryDecoder decoder = contentsDecoder();
+
+            int expenditureCount = decoder.readCount();
+            encoder.writeVarLong(expenditureCount);
+            for (int i = 0; i < expenditureCount; i++) {
+                writer.writeExpenditure(encoder, decoder.readVarLong(), stringAt(strings, decoder.readVarInt()),
+                        stringAt(strings, decoder.readVarInt()), decoder.readVarLong(), decoder.readZigZagInt());
+            }
+
+            int repeatCount = decoder.readCount();
+            encoder.writeVarLong(repeatCount);
+            for (int i = 0; i < repeatCount; i++) {
+                writer.writeRepeat(encoder, decoder.readVarLong(), stringAt(strings, decoder.readVarInt()),
+                        stringAt(strings, decoder.readVarInt()), decoder.readVarLong(), decoder.readZigZagInt(),
+                        decoder.readZigZagInt(), stringAt(strings, decoder.readVarInt()));
+            }
+
+            int budgetCount = decoder.readCount();
+            encoder.writeVarLong(budgetCount);
+            for (int i = 0; i < budgetCount; i++) {
+                writer.writeBudget(encoder, decoder.readZigZagInt(), decoder.readVarLong());
+            }
+        }
+
+        private Info toInfo(Info[] infos, int ref) throws IllegalValueException {
+            String info = stringAt(strings, ref);
+            if (infos[ref] == null) {
+                if (info == null || !Info.isValidInfo(info)) {
+                    throw new IllegalValueException(Info.MESSAGE_CONSTRAINTS);
+                }
+                infos[ref] = new Info(info);
+            }
+            return infos[ref];
+        }
+
+        private Tag toTag(Tag[] tags, int ref) throws IllegalValueException {
+            String tag = stringAt(strings, ref);
+            if (tags[ref] == null) {
+                if (tag == null || !Tag.isValidTagName(tag)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[ref] = new Tag(tag);
+            }
+            return tags[ref];
+        }
+
+        private static Amount toAmount(long cents) throws IllegalValueException {
+            try {
+                return Amount.fromCents(cents);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS, iae);
+            }
+        }
+
+        private static YearMonth toYearMonth(int epochMonth) throws IllegalValueException {
+            try {
+                return YearMonth.of(1970 + Math.floorDiv(epochMonth, 12), Math.floorMod(epochMonth, 12) + 1);
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(Date.YEARMONTH_MESSAGE_CONSTRAINTS, dte);
+            }
+        }
+    }
+}
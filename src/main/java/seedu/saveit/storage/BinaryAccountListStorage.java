@@ -0,0 +1,116 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.ReadOnlyAccountList;
+
+/**
+ * A class to access Account data stored in the compact binary format described in {@link BinaryAccountListWriter}.
+ * The file is much smaller than the json file of the same data, and is faster to read and write.
+ * Large files are mapped into memory, so that reading them only reads the blocks of the accounts that are used.
+ * Use {@link SaveItFileConverter} to convert it to and from the json format.
+ */
+public class BinaryAccountListStorage implements SaveItStorage {
+
+    // The bytes every binary data file starts with.
+    static final byte[] MAGIC = {'$', 'V', 'I', 'T'};
+    // Increased whenever the format changes in a way older versions of the app cannot read.
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAccountListStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAccountListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = new byte[MAGIC.length];
+            int read = 0;
+            while (read < start.length) {
+                int count = in.read(start, read, start.length - read);
+                if (count == -1) {
+                    return false;
+                }
+                read += count;
+            }
+            return Arrays.equals(start, MAGIC);
+        }
+    }
+
+    @Override
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAccountList> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the binary format.
+     */
+    @Override
+    public Optional<ReadOnlyAccountList> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            AccountList accountList = BinaryAccountListReader.read(FileUtil.readBufferFromFile(filePath));
+            return Optional.of(accountList);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public ReadOnlyAccountList readSampleSaveIt() {
+        return new JsonAccountListStorage(filePath).readSampleSaveIt();
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlyAccountList addressBook) throws IOException {
+        saveSaveIt(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlyAccountList)}.
+     * The whole account list replaces the file in one step. The previous contents of the file are kept in its
+     * backup file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileKeepingBackup(filePath, out -> BinaryAccountListWriter.write(addressBook, out));
+    }
+
+}
@@ -0,0 +1,176 @@
+package seedu.saveit.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.AccountNotLoadedException;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+
+/**
+ * Writes an account list in the binary data file format, which is laid out as follows.
+ * <ul>
+ *     <li>The magic bytes {@link BinaryAccountListStorage#MAGIC} and the format version as a varint.</li>
+ *     <li>The string table: the number of strings, then each string. Account names, infos, tags and periods
+ *     are written as the index of the string in the table plus one, or zero for no string, so that each
+ *     string is only written once however many entries use it.</li>
+ *     <li>The current account, the number of accounts, and each account as a length-prefixed block.</li>
+ * </ul>
+ * An account block holds its name, then its expenditures, repeats and budgets, each preceded by how many there are.
+ * Ids and amounts in cents are varints. Dates are epoch days, and months are months since 1970-01, both zigzagged.
+ */
+class BinaryAccountListWriter {
+
+    static final String MESSAGE_ACCOUNT_NOT_WRITTEN =
+            "Data of account %1$s cannot be written as it is not in the correct format: %2$s";
+
+    private final Map<String, Integer> stringRefs = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private BinaryAccountListWriter() {}
+
+    /**
+     * Writes {@code accountList} to {@code out}.
+     *
+     * @throws IOException if writing to {@code out} fails, or the contents of an account cannot be loaded.
+     */
+    static void write(ReadOnlyAccountList accountList, OutputStream out) throws IOException {
+        new BinaryAccountListWriter().writeAccountList(accountList, out);
+    }
+
+    /**
+     * Encodes the contents of {@code account} into a block of their own, which loads them back when they are used.
+     * Unlike the account, the block is never modified, so it can be read on another thread.
+     */
+    static AccountLoader encodeToBlock(Account account) {
+        BinaryAccountListWriter writer = new BinaryAccountListWriter();
+        try {
+            ByteBuffer block = ByteBuffer.wrap(writer.encodeAccount(account));
+            return new BinaryAccountListReader.AccountBlock(block, writer.strings.toArray(new String[0]));
+        } catch (IOException | IllegalValueException e) {
+            throw new AssertionError("Encoding into memory does not fail", e);
+        }
+    }
+
+    private void writeAccountList(ReadOnlyAccountList accountList, OutputStream out) throws IOException {
+        // The accounts are encoded first, as the string table they refer to is written before them.
+        int currentAccountRef = refOf(accountList.getActiveAccountName());
+        ByteArrayOutputStream accounts = new ByteArrayOutputStream();
+        BinaryEncoder accountsEncoder = new BinaryEncoder(accounts);
+        for (Account account : accountList.getAccounts().values()) {
+            accountsEncoder.writeBlock(encodeAccount(account));
+        }
+
+        BinaryEncoder encoder = new BinaryEncoder(out);
+        encoder.writeBytes(BinaryAccountListStorage.MAGIC);
+        encoder.writeVarLong(BinaryAccountListStorage.FORMAT_VERSION);
+        encoder.writeVarLong(strings.size());
+        for (String string : strings) {
+            encoder.writeString(string);
+        }
+        encoder.writeVarLong(currentAccountRef);
+        encoder.writeVarLong(accountList.getAccounts().size());
+        accounts.writeTo(out);
+    }
+
+    private byte[] encodeAccount(Account account) throws IOException {
+        Optional<AccountLoader> loader = account.getPendingLoader();
+        if (loader.isPresent() && loader.get() instanceof BinaryAccountListReader.AccountBlock) {
+            // The account has not been loaded since it was read, so its entries are copied without converting them.
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            BinaryEncoder encoder = new BinaryEncoder(block);
+            encoder.writeVarLong(refOf(account.getAccountName()));
+            try {
+                ((BinaryAccountListReader.AccountBlock) loader.get()).copyContentsTo(this, encoder);
+                return block.toByteArray();
+            } catch (IllegalValueException ive) {
+                // Its contents cannot be written as they are not known, and writing it empty would lose them.
+                throw new IOException(String.format(MESSAGE_ACCOUNT_NOT_WRITTEN, account.getAccountName(),
+                        ive.getMessage()), ive);
+            }
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        BinaryEncoder encoder = new BinaryEncoder(block);
+        encoder.writeVarLong(refOf(account.getAccountName()));
+        List<Expenditure> expenditures;
+        try {
+            expenditures = account.getExpenditureList();
+        } catch (AccountNotLoadedException anle) {
+            throw new IOException(String.format(MESSAGE_ACCOUNT_NOT_WRITTEN, account.getAccountName(),
+                    anle.getCause().getMessage()), anle);
+        }
+        encoder.writeVarLong(expenditures.size());
+        for (Expenditure expenditure : expenditures) {
+            writeExpenditure(encoder, expenditure.getId(), expenditure.getInfo().fullInfo,
+                    expenditure.getTag().tagName, expenditure.getAmount().cents, expenditure.getDate().getEpochDay());
+        }
+        List<Repeat> repeats = account.getRepeatList();
+        encoder.writeVarLong(repeats.size());
+        for (Repeat repeat : repeats) {
+            writeRepeat(encoder, repeat.getId(), repeat.getInfo().fullInfo, repeat.getTag().tagName,
+                    repeat.getAmount().cents, repeat.getStartDate().getEpochDay(), repeat.getEndDate().getEpochDay(),
+                    repeat.getPeriod().toString());
+        }
+        Map<YearMonth, Double> budgets = account.getBudgetList().getBudgets();
+        encoder.writeVarLong(budgets.size());
+        for (Map.Entry<YearMonth, Double> budget : budgets.entrySet()) {
+            writeBudget(encoder, toEpochMonth(budget.getKey()), Math.round(budget.getValue() * 100));
+        }
+        return block.toByteArray();
+    }
+
+    void writeExpenditure(BinaryEncoder encoder, long id, String info, String tag, long cents, int epochDay)
+            throws IOException {
+        encoder.writeVarLong(id);
+        encoder.writeVarLong(refOf(info));
+        encoder.writeVarLong(refOf(tag));
+        encoder.writeVarLong(cents);
+        encoder.writeZigZag(epochDay);
+    }
+
+    void writeRepeat(BinaryEncoder encoder, long id, String info, String tag, long cents, int startEpochDay,
+                     int endEpochDay, String period) throws IOException {
+        encoder.writeVarLong(id);
+        encoder.writeVarLong(refOf(info));
+        encoder.writeVarLong(refOf(tag));
+        encoder.writeVarLong(cents);
+        encoder.writeZigZag(startEpochDay);
+        encoder.writeZigZag(endEpochDay);
+        encoder.writeVarLong(refOf(period));
+    }
+
+    void writeBudget(BinaryEncoder encoder, int epochMonth, long cents) throws IOException {
+        encoder.writeZigZag(epochMonth);
+        encoder.writeVarLong(cents);
+    }
+
+    static int toEpochMonth(YearMonth yearMonth) {
+        return (yearMonth.getYear() - 1970) * 12 + yearMonth.getMonthValue() - 1;
+    }
+
+    /**
+     * Returns the reference to {@code string} in the string table, adding it to the table if it is not there yet.
+     */
+    private int refOf(String string) {
+        if (string == null) {
+            return 0;
+        }
+        return stringRefs.computeIfAbsent(string, added -> {
+            strings.add(added);
+            return strings.size();
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.saveit.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the values written by {@link BinaryEncoder} from a buffer.
+ */
+class BinaryDecoder {
+
+    public static final String MESSAGE_CORRUPTED = "Data file is cut short or corrupted.";
+
+    // A varint of a long takes at most this many bytes.
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final ByteBuffer buffer;
+
+    BinaryDecoder(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @throws IllegalValueException if the buffer ends before the varint, or the varint is too long.
+     */
+    long readVarLong() throws IllegalValueException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * Reads a varint that must fit in an int and not be negative, such as a count or a length.
+     */
+    int readVarInt() throws IllegalValueException {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the number of entries that follow. As every entry takes at least one byte, a count larger than the
+     * bytes left is corrupted, and is rejected before anything is allocated for the entries.
+     */
+    int readCount() throws IllegalValueException {
+        int count = readVarInt();
+        if (count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a zigzag-encoded varint.
+     */
+    long readZigZag() throws IllegalValueException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a zigzag-encoded varint that must fit in an int, such as an epoch day.
+     */
+    int readZigZagInt() throws IllegalValueException {
+        long value = readZigZag();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    String readString() throws IllegalValueException {
+        ByteBuffer bytes = readBlock();
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Reads a length-prefixed block, returning a view of it that shares the bytes of this decoder's buffer.
+     */
+    ByteBuffer readBlock() throws IllegalValueException {
+        int length = readVarInt();
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        ByteBuffer block = buffer.slice();
+        block.limit(length);
+        buffer.position(buffer.position() + length);
+        return block;
+    }
+
+    /**
+     * Reads {@code length} bytes.
+     */
+    byte[] readBytes(int length) throws IllegalValueException {
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private byte readByte() throws IllegalValueException {
+        try {
+            return buffer.get();
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, bue);
+        }
+    }
+}
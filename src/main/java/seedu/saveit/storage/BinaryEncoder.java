@@ -0,0 +1,58 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the values of the binary data file format to a stream.
+ * Whole numbers are written as varints: 7 bits per byte, lowest bits first, with the top bit set on every byte
+ * but the last, so that small numbers take a single byte.
+ */
+class BinaryEncoder {
+
+    private final OutputStream out;
+
+    BinaryEncoder(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, as a varint.
+     */
+    void writeVarLong(long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes {@code value}, which may be negative, as a zigzag-encoded varint, so that numbers close to zero
+     * take few bytes whatever their sign.
+     */
+    void writeZigZag(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 bytes.
+     */
+    void writeString(String value) throws IOException {
+        writeBlock(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes {@code block} preceded by its length, so that it can be skipped without being decoded.
+     */
+    void writeBlock(byte[] block) throws IOException {
+        writeVarLong(block.length);
+        out.write(block);
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+    }
+}
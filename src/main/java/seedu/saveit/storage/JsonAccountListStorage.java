@@ -3,7 +3,9 @@ package seedu.saveit.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.logging.Logger;
@@ -13,20 +15,28 @@ import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.exceptions.IllegalValueException;
 import seedu.saveit.commons.util.FileUtil;
 import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.Account;
 import seedu.saveit.model.AccountList;
 import seedu.saveit.model.ReadOnlyAccountList;
 
 /**
  * A class to access Account data stored as a json file on the hard disk.
+ * The json file is read and written one entry at a time, without holding its whole contents in memory.
+ * A file named as a compressed file, such as {@code saveit.json.gz}, is compressed with gzip as it is written.
+ * Compressed files are told apart by their first bytes when read, whatever their name.
+ * Changes saved to the data file are appended to its journal, and are only folded into the json file
+ * once the journal grows large.
  */
 public class JsonAccountListStorage implements SaveItStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAccountListStorage.class);
 
     private Path filePath;
+    private AccountListJournal journal;
 
     public JsonAccountListStorage(Path filePath) {
         this.filePath = filePath;
+        journal = new AccountListJournal(filePath);
     }
 
     public Path getSaveItFilePath() {
@@ -40,27 +50,63 @@ public class JsonAccountListStorage implements SaveItStorage {
 
     /**
      * Similar to {@link #readSaveIt()}.
+     * The file is read as a stream, and the journal of the file, if there is one, is then replayed over the
+     * accounts read. Accounts that are not loaded yet stay so, and the changes to them are applied when they are
+     * first used.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
      */
     public Optional<ReadOnlyAccountList> readSaveIt(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAccountList> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAccountList.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        JsonAccountListStreamReader reader = new JsonAccountListStreamReader(filePath);
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            List<Account> accounts = reader.readAccounts();
+            String currentAccount = reader.getCurrentAccount();
+            boolean isJournalComplete = true;
+            if (Files.exists(AccountListJournal.getJournalFile(filePath))) {
+                if (reader.hasEntriesWithoutIds()) {
+                    throw new IllegalValueException(AccountListJournal.MESSAGE_ENTRY_WITHOUT_ID);
+                }
+                AccountListJournal.ReplayedAccountList replayed =
+                        new AccountListJournal.ReplayedAccountList(accounts, currentAccount);
+                isJournalComplete = AccountListJournal.replay(replayed, filePath);
+                accounts = replayed.getAccounts();
+                currentAccount = replayed.getCurrentAccount();
+            }
+
+            AccountList accountList = JsonAccountListStreamReader.toAccountList(accounts, currentAccount);
+            if (filePath.equals(this.filePath)) {
+                rememberIfComplete(accountList, isJournalComplete && !reader.hasEntriesWithoutIds());
+            }
+            return Optional.of(accountList);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Lets the journal refer to {@code accountList} as the contents of the file if they were read completely.
+     * Entries without ids are given new ids every time they are read, so the journal cannot refer to them until
+     * they are saved with their ids.
+     */
+    private void rememberIfComplete(AccountList accountList, boolean isComplete) {
+        if (isComplete) {
+            journal.remember(accountList);
+        } else {
+            journal.forget();
+        }
+    }
+
     @Override
     public ReadOnlyAccountList readSampleSaveIt() {
         String jsonString = (new Scanner(getClass().getResourceAsStream("/files/saveit-demo.json")))
@@ -80,6 +126,10 @@ public class JsonAccountListStorage implements SaveItStorage {
 
     /**
      * Similar to {@link #saveSaveIt(ReadOnlyAccountList)}.
+     * If {@code filePath} is the file of this storage and its contents are known, only the changes since
+     * it was last read or saved are appended to its journal. Otherwise, or if the journal has grown large,
+     * the whole account list replaces the file in one step and the journal is deleted. The previous contents of
+     * the file are kept in its backup file.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -87,8 +137,26 @@ public class JsonAccountListStorage implements SaveItStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAccountList(addressBook), filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile && FileUtil.isFileExists(filePath) && journal.append(addressBook)
+                && !journal.needsCompaction()) {
+            return;
+        }
+
+        try {
+            FileUtil.ContentWriter writer = out -> JsonAccountListStreamWriter.write(addressBook, out);
+            FileUtil.writeToFileKeepingBackup(filePath,
+                    FileUtil.isCompressedFileName(filePath) ? FileUtil.compressing(writer) : writer);
+            Files.deleteIfExists(AccountListJournal.getJournalFile(filePath));
+        } catch (IOException ioe) {
+            if (isOwnFile) {
+                journal.forget();
+            }
+            throw ioe;
+        }
+        if (isOwnFile) {
+            journal.remember(addressBook);
+        }
     }
 
 }
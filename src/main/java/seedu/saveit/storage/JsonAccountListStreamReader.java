@@ -0,0 +1,249 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+
+/**
+ * Reads an account list in the format of {@link JsonSerializableAccountList} from a JSON file, one entry at a time.
+ * A compressed file is decompressed as it is read.
+ * If the current account is named before the accounts, as {@link JsonAccountListStreamWriter} writes it, the entries
+ * of the active account are converted into the model's objects in batches as they are read. The other accounts are
+ * kept as read, to be converted when they are first used.
+ */
+class JsonAccountListStreamReader {
+
+    // Entries of the active account are converted once this many have been read, which bounds the memory they take.
+    private static final int CONVERSION_BATCH_SIZE = 8192;
+
+    private static final TypeReference<HashMap<YearMonth, Double>> BUDGETS_TYPE =
+            new TypeReference<HashMap<YearMonth, Double>>() { };
+
+    private final Path filePath;
+    private String currentAccount;
+    private boolean hasEntriesWithoutIds;
+
+    JsonAccountListStreamReader(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if any expenditure or repeat read was saved before entries had ids.
+     */
+    boolean hasEntriesWithoutIds() {
+        return hasEntriesWithoutIds;
+    }
+
+    /**
+     * Returns the name of the current account read, which may be null.
+     */
+    String getCurrentAccount() {
+        return currentAccount;
+    }
+
+    /**
+     * Reads the accounts in the file, in the order they are in, and the name of the current account.
+     * The current account is loaded if it is named before the accounts. The other accounts are not loaded.
+     *
+     * @throws IOException if the file cannot be read, or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in the current account.
+     */
+    List<Account> readAccounts() throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.openForReading(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            boolean isCurrentAccountRead = false;
+            List<Account> accounts = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("currentAccount".equals(fieldName)) {
+                    currentAccount = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    isCurrentAccountRead = true;
+                } else if ("accounts".equals(fieldName) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        accounts.add(readAccount(parser, isCurrentAccountRead ? currentAccount : null));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return accounts;
+        }
+    }
+
+    /**
+     * Reads the account at the parser. If it is named {@code streamedAccountName}, its entries are converted
+     * as they are read. Otherwise the account is kept as read, and is only converted when it is first used.
+     */
+    private Account readAccount(JsonParser parser, String streamedAccountName)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        String accountName = null;
+        Account account = null;
+        List<JsonAdaptedExpenditure> expenditures = new ArrayList<>();
+        List<JsonAdaptedRepeat> repeats = new ArrayList<>();
+        HashMap<YearMonth, Double> budgets = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "accountName":
+                accountName = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                if (accountName != null && account == null && accountName.equals(streamedAccountName)) {
+                    account = new Account(accountName);
+                    // Entries read before the name are added first, to keep them in the order they were saved.
+                    addExpenditures(account, expenditures);
+                    addRepeats(account, repeats);
+                }
+                break;
+            case "expenditures":
+                readEntries(parser, JsonAdaptedExpenditure.class, JsonAdaptedExpenditure::getId, expenditures,
+                        account, this::addExpenditures);
+                break;
+            case "repeats":
+                readEntries(parser, JsonAdaptedRepeat.class, JsonAdaptedRepeat::getId, repeats,
+                        account, this::addRepeats);
+                break;
+            case "budgets":
+                HashMap<YearMonth, Double> readBudgets = parser.readValueAs(BUDGETS_TYPE);
+                if (readBudgets != null) {
+                    budgets.putAll(readBudgets);
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        if (account != null) {
+            for (YearMonth yearMonth : budgets.keySet()) {
+                account.setBudget(yearMonth, new Amount(budgets.get(yearMonth)));
+            }
+            return account;
+        }
+        return new JsonSerializableAccount(accountName, expenditures, repeats, budgets).toLazyModelType();
+    }
+
+    /**
+     * Reads the array of entries at the parser. If {@code account} is null, the entries are added to {@code read}.
+     * Otherwise they are added to {@code account} with {@code adder} in batches.
+     */
+    private <A> void readEntries(JsonParser parser, Class<A> type, Function<A, Long> idGetter, List<A> read,
+                                 Account account, EntryAdder<A> adder) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+
+        List<A> batch = account == null ? read : new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            A entry = parser.readValueAs(type);
+            hasEntriesWithoutIds |= idGetter.apply(entry) == null;
+            batch.add(entry);
+            if (account != null && batch.size() == CONVERSION_BATCH_SIZE) {
+                adder.add(account, batch);
+                batch.clear();
+            }
+        }
+        if (account != null) {
+            adder.add(account, batch);
+        }
+    }
+
+    private void addExpenditures(Account account, List<JsonAdaptedExpenditure> expenditures)
+            throws IllegalValueException {
+        for (Expenditure expenditure : JsonSerializableAccount.convertAll(expenditures,
+                JsonAdaptedExpenditure::toModelType)) {
+            account.addExpenditure(expenditure);
+        }
+    }
+
+    private void addRepeats(Account account, List<JsonAdaptedRepeat> repeats) throws IllegalValueException {
+        for (Repeat repeat : JsonSerializableAccount.convertAll(repeats, JsonAdaptedRepeat::toModelType)) {
+            account.addRepeat(repeat);
+        }
+    }
+
+    /**
+     * Puts {@code accounts} into an account list, in the same way as {@link JsonSerializableAccountList#toModelType}.
+     * If the active account is not loaded yet, it is loaded now.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the active account,
+     *     or if there are duplicate accounts.
+     */
+    static AccountList toAccountList(List<Account> accounts, String currentAccount) throws IllegalValueException {
+        String activeAccountName = null;
+        for (Account account : accounts) {
+            activeAccountName = account.getAccountName();
+            if (Objects.equals(activeAccountName, currentAccount)) {
+                break;
+            }
+        }
+
+        AccountList accountList = new AccountList(false);
+        for (Account account : accounts) {
+            if (account.getPendingLoader().isPresent()
+                    && Objects.equals(account.getAccountName(), activeAccountName)) {
+                account = loadAccount(account);
+            }
+            if (accountList.hasAccount(account)) {
+                throw new IllegalValueException(JsonSerializableAccountList.MESSAGE_DUPLICATE_ACCOUNT);
+            }
+            accountList.addAccount(account);
+        }
+
+        accountList.updateActiveAccount(activeAccountName);
+        return accountList;
+    }
+
+    /**
+     * Returns {@code account}, which is not loaded yet, with its contents loaded.
+     */
+    private static Account loadAccount(Account account) throws IllegalValueException {
+        Account loaded = account.getPendingLoader().get().load();
+        if (Objects.equals(loaded.getAccountName(), account.getAccountName())) {
+            return loaded;
+        }
+        Account renamed = loaded.copyAccountWithNewName(account.getAccountName());
+        loaded.discard();
+        return renamed;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Converts a batch of Jackson-friendly entries and adds them to an account.
+     */
+    @FunctionalInterface
+    private interface EntryAdder<A> {
+        void add(Account account, List<A> batch) throws IllegalValueException;
+    }
+}
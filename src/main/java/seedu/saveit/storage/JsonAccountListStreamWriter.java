@@ -0,0 +1,68 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+
+/**
+ * Writes an account list as JSON in the format of {@link JsonSerializableAccountList}, straight from the model's
+ * objects, one entry at a time, so that the account list is never held in memory in another form.
+ */
+class JsonAccountListStreamWriter {
+
+    /**
+     * Writes {@code accountList} to {@code out}.
+     */
+    static void write(ReadOnlyAccountList accountList, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            // Written first, so that the active account can be read straight into the model's objects.
+            generator.writeStringField("currentAccount", accountList.getActiveAccountName());
+            generator.writeArrayFieldStart("accounts");
+            for (Account account : accountList.getAccounts().values()) {
+                writeAccount(generator, account);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeAccount(JsonGenerator generator, Account account) throws IOException {
+        Optional<AccountLoader> loader = account.getPendingLoader();
+        if (loader.isPresent() && loader.get() instanceof JsonSerializableAccount) {
+            // The account has not been loaded since it was read, so it is written back as it was read.
+            generator.writeObject(new JsonSerializableAccount(account));
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeStringField("accountName", account.getAccountName());
+        generator.writeArrayFieldStart("expenditures");
+        for (Expenditure expenditure : account.getExpenditureList()) {
+            generator.writeObject(new JsonAdaptedExpenditure(expenditure));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("repeats");
+        for (Repeat repeat : account.getRepeatList()) {
+            generator.writeObject(new JsonAdaptedRepeat(repeat));
+        }
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("budgets");
+        for (Map.Entry<YearMonth, Double> budget : account.getBudgetList().getBudgets().entrySet()) {
+            generator.writeNumberField(budget.getKey().toString(), budget.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
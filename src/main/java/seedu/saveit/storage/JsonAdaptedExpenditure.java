@@ -24,6 +24,7 @@ class JsonAdaptedExpenditure {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_DATE;
 
+    private final Long id;
     private final String date;
     private final String info;
     private final double amount;
@@ -35,9 +36,11 @@ class JsonAdaptedExpenditure {
      */
     @JsonCreator
 
-    public JsonAdaptedExpenditure(@JsonProperty("info") String info, @JsonProperty("amount") double amount,
-                                  @JsonProperty("date") String date, @JsonProperty("tag") JsonAdaptedTag tag) {
+    public JsonAdaptedExpenditure(@JsonProperty("id") Long id, @JsonProperty("info") String info,
+                                  @JsonProperty("amount") double amount, @JsonProperty("date") String date,
+                                  @JsonProperty("tag") JsonAdaptedTag tag) {
 
+        this.id = id;
         this.info = info;
         this.amount = amount;
         this.date = date;
@@ -51,12 +54,20 @@ class JsonAdaptedExpenditure {
      */
 
     public JsonAdaptedExpenditure(Expenditure source) {
+        id = source.getId();
         info = source.getInfo().fullInfo;
         amount = source.getAmount().value;
-        date = source.getDate().value;
+        date = source.getDate().toString();
         tag = new JsonAdaptedTag(source.getTag().tagName);
     }
 
+    /**
+     * Returns the id of the entry, or null if it was saved before entries had ids.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted expenditure object into the model's {@code Expenditure} object.
      *
@@ -93,7 +104,10 @@ class JsonAdaptedExpenditure {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
 
-        return new Expenditure(modelInfo, modelAmount, modelDate, tag.toModelType());
+        // Files saved before expenditures had ids give them new ids.
+        return id == null
+                ? new Expenditure(modelInfo, modelAmount, modelDate, tag.toModelType())
+                : new Expenditure(id, modelInfo, modelAmount, modelDate, tag.toModelType());
 
     }
 
@@ -0,0 +1,178 @@
+package seedu.saveit.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+
+/**
+ * Jackson-friendly version of one change recorded in the journal of an account list.
+ * Only the fields used by the type of the change are set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_MONTH_MESSAGE = "Journal record's month is not in the format YYYY-MM.";
+
+    /**
+     * The types of changes recorded in the journal.
+     */
+    enum Type {
+        // Creates the account, or empties it if it exists.
+        RESET_ACCOUNT,
+        REMOVE_ACCOUNT,
+        RENAME_ACCOUNT,
+        SET_ACTIVE_ACCOUNT,
+        // Adds the entry to the account, or replaces the entry with the same id.
+        PUT_EXPENDITURE,
+        PUT_REPEAT,
+        // Removes the expenditure or repeat with the id from the account.
+        REMOVE_ENTRY,
+        SET_BUDGET
+    }
+
+    private final Type type;
+    private final String account;
+    private final String newName;
+    private final JsonAdaptedExpenditure expenditure;
+    private final JsonAdaptedRepeat repeat;
+    private final Long id;
+    private final String month;
+    private final Double budget;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type, @JsonProperty("account") String account,
+                                    @JsonProperty("newName") String newName,
+                                    @JsonProperty("expenditure") JsonAdaptedExpenditure expenditure,
+                                    @JsonProperty("repeat") JsonAdaptedRepeat repeat, @JsonProperty("id") Long id,
+                                    @JsonProperty("month") String month, @JsonProperty("budget") Double budget) {
+        this.type = type;
+        this.account = account;
+        this.newName = newName;
+        this.expenditure = expenditure;
+        this.repeat = repeat;
+        this.id = id;
+        this.month = month;
+        this.budget = budget;
+    }
+
+    static JsonAdaptedJournalRecord resetAccount(String account) {
+        return new JsonAdaptedJournalRecord(Type.RESET_ACCOUNT, account, null, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord removeAccount(String account) {
+        return new JsonAdaptedJournalRecord(Type.REMOVE_ACCOUNT, account, null, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord renameAccount(String account, String newName) {
+        return new JsonAdaptedJournalRecord(Type.RENAME_ACCOUNT, account, newName, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord setActiveAccount(String account) {
+        return new JsonAdaptedJournalRecord(Type.SET_ACTIVE_ACCOUNT, account, null, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putExpenditure(String account, Expenditure expenditure) {
+        return new JsonAdaptedJournalRecord(Type.PUT_EXPENDITURE, account, null,
+                new JsonAdaptedExpenditure(expenditure), null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putRepeat(String account, Repeat repeat) {
+        return new JsonAdaptedJournalRecord(Type.PUT_REPEAT, account, null, null, new JsonAdaptedRepeat(repeat),
+                null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord removeEntry(String account, long id) {
+        return new JsonAdaptedJournalRecord(Type.REMOVE_ENTRY, account, null, null, null, id, null, null);
+    }
+
+    static JsonAdaptedJournalRecord setBudget(String account, YearMonth month, double budget) {
+        return new JsonAdaptedJournalRecord(Type.SET_BUDGET, account, null, null, null, null, month.toString(),
+                budget);
+    }
+
+    /**
+     * Checks that the fields used by the type of this record are present.
+     *
+     * @throws IllegalValueException if a field used by the type of this record is missing or invalid.
+     */
+    void checkFields() throws IllegalValueException {
+        requireField(type, "type");
+        requireField(account, "account");
+        switch (type) {
+        case RENAME_ACCOUNT:
+            requireField(newName, "newName");
+            break;
+        case PUT_EXPENDITURE:
+            requireField(expenditure, "expenditure");
+            requireField(expenditure.getId(), "expenditure id");
+            break;
+        case PUT_REPEAT:
+            requireField(repeat, "repeat");
+            requireField(repeat.getId(), "repeat id");
+            break;
+        case REMOVE_ENTRY:
+            requireField(id, "id");
+            break;
+        case SET_BUDGET:
+            requireField(month, "month");
+            requireField(budget, "budget");
+            try {
+                YearMonth.parse(month);
+            } catch (DateTimeParseException dtpe) {
+                throw new IllegalValueException(INVALID_MONTH_MESSAGE, dtpe);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getAccount() {
+        return account;
+    }
+
+    String getNewName() {
+        return newName;
+    }
+
+    JsonAdaptedExpenditure getExpenditure() {
+        return expenditure;
+    }
+
+    JsonAdaptedRepeat getRepeat() {
+        return repeat;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getMonth() {
+        return month;
+    }
+
+    Double getBudget() {
+        return budget;
+    }
+}
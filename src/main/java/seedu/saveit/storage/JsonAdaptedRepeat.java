@@ -21,6 +21,7 @@ class JsonAdaptedRepeat {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_DATE;
 
+    private final Long id;
     private final String startDate;
     private final String endDate;
     private final String info;
@@ -33,10 +34,12 @@ class JsonAdaptedRepeat {
      */
     @JsonCreator
 
-    public JsonAdaptedRepeat(@JsonProperty("info") String info, @JsonProperty("amount") double amount,
-                             @JsonProperty("startDate") String startDate, @JsonProperty("endDate") String endDate,
-                             @JsonProperty("period") String period, @JsonProperty("tag") JsonAdaptedTag tag) {
+    public JsonAdaptedRepeat(@JsonProperty("id") Long id, @JsonProperty("info") String info,
+                             @JsonProperty("amount") double amount, @JsonProperty("startDate") String startDate,
+                             @JsonProperty("endDate") String endDate, @JsonProperty("period") String period,
+                             @JsonProperty("tag") JsonAdaptedTag tag) {
 
+        this.id = id;
         this.info = info;
         this.amount = amount;
         this.startDate = startDate;
@@ -50,14 +53,22 @@ class JsonAdaptedRepeat {
      */
 
     public JsonAdaptedRepeat(Repeat source) {
+        id = source.getId();
         info = source.getInfo().fullInfo;
         amount = source.getAmount().value;
-        startDate = source.getStartDate().value;
-        endDate = source.getEndDate().value;
+        startDate = source.getStartDate().toString();
+        endDate = source.getEndDate().toString();
         tag = new JsonAdaptedTag(source.getTag().tagName);
         period = source.getPeriod().toString();
     }
 
+    /**
+     * Returns the id of the entry, or null if it was saved before entries had ids.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted repeat object into the model's {@code Repeat} object.
      *
@@ -110,7 +121,10 @@ class JsonAdaptedRepeat {
             throw new IllegalValueException(Repeat.PERIOD_MESSAGE_CONSTRAINTS);
         }
 
-        return new Repeat(modelInfo, modelAmount, modelStartDate, modelEndDate, tag.toModelType(), period);
+        // Files saved before repeats had ids give them new ids.
+        return id == null
+                ? new Repeat(modelInfo, modelAmount, modelStartDate, modelEndDate, tag.toModelType(), period)
+                : new Repeat(id, modelInfo, modelAmount, modelStartDate, modelEndDate, tag.toModelType(), period);
 
     }
 
@@ -4,7 +4,9 @@ import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,18 +15,24 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.saveit.commons.exceptions.IllegalValueException;
 
 import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountLoader;
 import seedu.saveit.model.expenditure.Amount;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
 
 /**
  * An Immutable Account that is serializable to JSON format.
+ * It can also be kept as the loader of an account that is only converted to the model's {@code Account}
+ * when the account is first used.
  */
 @JsonRootName(value = "saveit")
-class JsonSerializableAccount {
+class JsonSerializableAccount implements AccountLoader {
 
     public static final String MESSAGE_DUPLICATE_EXPENDITURE = "Expenditures list contains duplicate expenditure(s).";
 
+    // Lists shorter than this are converted on the calling thread, as splitting them up costs more than it saves.
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+
     private final List<JsonAdaptedExpenditure> expenditures = new ArrayList<>();
     private final List<JsonAdaptedRepeat> repeats = new ArrayList<>();
     private final HashMap<YearMonth, Double> budgets = new HashMap<>();
@@ -50,11 +58,25 @@ class JsonSerializableAccount {
      * @param source future changes to this will not affect the created {@code JsonSerializableAccount}.
      */
     public JsonSerializableAccount(Account source) {
-        expenditures.addAll(source.getExpenditureList().stream().map(JsonAdaptedExpenditure::new)
-                .collect(Collectors.toList()));
-        repeats.addAll(source.getRepeatList().stream().map(JsonAdaptedRepeat::new).collect(Collectors.toList()));
         accountName = source.getAccountName();
-        budgets.putAll(source.getBudgetList().getBudgets());
+        Optional<AccountLoader> loader = source.getPendingLoader();
+        if (loader.isPresent() && loader.get() instanceof JsonSerializableAccount) {
+            // The account has not been loaded since it was read, so it is written back as it was read.
+            JsonSerializableAccount unloaded = (JsonSerializableAccount) loader.get();
+            expenditures.addAll(unloaded.expenditures);
+            repeats.addAll(unloaded.repeats);
+            budgets.putAll(unloaded.budgets);
+        } else {
+            expenditures.addAll(source.getExpenditureList().stream().map(JsonAdaptedExpenditure::new)
+                    .collect(Collectors.toList()));
+            repeats.addAll(source.getRepeatList().stream().map(JsonAdaptedRepeat::new)
+                    .collect(Collectors.toList()));
+            budgets.putAll(source.getBudgetList().getBudgets());
+        }
+    }
+
+    public String getAccountName() {
+        return accountName;
     }
 
     /**
@@ -64,12 +86,10 @@ class JsonSerializableAccount {
      */
     public Account toModelType() throws IllegalValueException {
         Account account = new Account(accountName);
-        for (JsonAdaptedExpenditure jsonAdaptedExpenditure : expenditures) {
-            Expenditure expenditure = jsonAdaptedExpenditure.toModelType();
+        for (Expenditure expenditure : convertAll(expenditures, JsonAdaptedExpenditure::toModelType)) {
             account.addExpenditure(expenditure);
         }
-        for (JsonAdaptedRepeat jsonAdaptedRepeat : repeats) {
-            Repeat repeat = jsonAdaptedRepeat.toModelType();
+        for (Repeat repeat : convertAll(repeats, JsonAdaptedRepeat::toModelType)) {
             account.addRepeat(repeat);
         }
         for (YearMonth yearMonth : budgets.keySet()) {
@@ -78,4 +98,73 @@ class JsonSerializableAccount {
         return account;
     }
 
+    /**
+     * Converts this account into the model's {@code Account} object when the account is first used,
+     * instead of now.
+     */
+    public Account toLazyModelType() {
+        return new Account(accountName, this);
+    }
+
+    @Override
+    public Account load() throws IllegalValueException {
+        return toModelType();
+    }
+
+    /**
+     * Converts every element of {@code adapted} with {@code converter}. Long lists are converted in parallel
+     * on the common fork-join pool. Either way, the results are in the same order as {@code adapted}.
+     *
+     * @throws IllegalValueException the error of the first element in {@code adapted} that cannot be converted.
+     */
+    static <A, M> List<M> convertAll(List<A> adapted, Converter<A, M> converter)
+            throws IllegalValueException {
+        Stream<A> stream = adapted.size() >= PARALLEL_CONVERSION_THRESHOLD
+                ? adapted.parallelStream()
+                : adapted.stream();
+        List<Converted<M>> convertedList = stream.map(element -> Converted.of(element, converter))
+                .collect(Collectors.toList());
+
+        List<M> models = new ArrayList<>(convertedList.size());
+        for (Converted<M> converted : convertedList) {
+            if (converted.error != null) {
+                throw converted.error;
+            }
+            models.add(converted.model);
+        }
+        return models;
+    }
+
+    /**
+     * Converts a Jackson-friendly object into the model's object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting one element: either the model's object or the reason it could not be converted.
+     */
+    private static class Converted<M> {
+        private final M model;
+        private final IllegalValueException error;
+
+        private Converted(M model, IllegalValueException error) {
+            this.model = model;
+            this.error = error;
+        }
+
+        /**
+         * Converts {@code adapted} with {@code converter}, keeping the error instead of throwing it.
+         */
+        static <A, M> Converted<M> of(A adapted, Converter<A, M> converter) {
+            try {
+                return new Converted<>(converter.convert(adapted), null);
+            } catch (IllegalValueException ive) {
+                return new Converted<>(null, ive);
+            }
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.saveit.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -47,28 +48,41 @@ public class JsonSerializableAccountList {
 
     /**
      * Converts this address book into the model's {@code AccountList} object.
+     * Only the active account is converted now. The other accounts are converted when they are first used.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated in the active account,
+     *     or if there are duplicate accounts.
      */
     public AccountList toModelType() throws IllegalValueException {
         AccountList accountList = new AccountList(false);
-
-        // set default account name first
-        accountList.updateActiveAccount(AccountList.DEFAULT_ACCOUNT_NAME);
+        String activeAccountName = getActiveAccountName();
 
         for (JsonSerializableAccount jsonAdaptedAccount: accounts) {
-            Account account = jsonAdaptedAccount.toModelType();
+            Account account = Objects.equals(jsonAdaptedAccount.getAccountName(), activeAccountName)
+                    ? jsonAdaptedAccount.toModelType()
+                    : jsonAdaptedAccount.toLazyModelType();
             if (accountList.hasAccount(account)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ACCOUNT);
             }
             accountList.addAccount(account);
-
-            // set the last account as active account
-            accountList.updateActiveAccount(account.getAccountName());
         }
 
-        // if specified, set the active account to it
-        accountList.updateActiveAccount(currentAccount);
+        accountList.updateActiveAccount(activeAccountName);
         return accountList;
     }
+
+    /**
+     * Returns the name of the account to be made active, which is the current account if it exists,
+     * or else the last account.
+     */
+    private String getActiveAccountName() {
+        String lastAccountName = null;
+        for (JsonSerializableAccount jsonAdaptedAccount: accounts) {
+            if (Objects.equals(jsonAdaptedAccount.getAccountName(), currentAccount)) {
+                return currentAccount;
+            }
+            lastAccountName = jsonAdaptedAccount.getAccountName();
+        }
+        return lastAccountName;
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.saveit.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of an account list whose accounts are stored in files of their own.
+ * The manifest names the active account, and the file of each account.
+ */
+class JsonSerializableManifest {
+
+    static final int FORMAT_VERSION = 2;
+
+    // Missing from data files in which all accounts are stored, which came before manifests.
+    private final Integer formatVersion;
+    private final String currentAccount;
+    private final TreeMap<String, String> accountFiles = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableManifest(@JsonProperty("formatVersion") Integer formatVersion,
+                                    @JsonProperty("currentAccount") String currentAccount,
+                                    @JsonProperty("accountFiles") Map<String, String> accountFiles) {
+        this.formatVersion = formatVersion;
+        this.currentAccount = currentAccount;
+        if (accountFiles != null) {
+            this.accountFiles.putAll(accountFiles);
+        }
+    }
+
+    /**
+     * Constructs a manifest of the current format.
+     *
+     * @param accountFiles names of the files of the accounts, relative to their directory, by account name.
+     */
+    JsonSerializableManifest(String currentAccount, Map<String, String> accountFiles) {
+        this(FORMAT_VERSION, currentAccount, accountFiles);
+    }
+
+    /**
+     * Returns true if the file read is a manifest, rather than a data file in which all accounts are stored.
+     */
+    boolean isManifest() {
+        return formatVersion != null;
+    }
+
+    Integer getFormatVersion() {
+        return formatVersion;
+    }
+
+    /**
+     * Returns the name of the account to be made active, which is the current account if it exists,
+     * or else the last account.
+     */
+    String getActiveAccountName() {
+        if (accountFiles.containsKey(currentAccount) || accountFiles.isEmpty()) {
+            return currentAccount;
+        }
+        return accountFiles.lastKey();
+    }
+
+    Map<String, String> getAccountFiles() {
+        return Collections.unmodifiableMap(accountFiles);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonSerializableManifest // instanceof handles nulls
+                && Objects.equals(formatVersion, ((JsonSerializableManifest) other).formatVersion)
+                && Objects.equals(currentAccount, ((JsonSerializableManifest) other).currentAccount)
+                && accountFiles.equals(((JsonSerializableManifest) other).accountFiles));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(formatVersion, currentAccount, accountFiles);
+    }
+}
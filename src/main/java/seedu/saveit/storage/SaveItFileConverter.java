@@ -0,0 +1,72 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.AccountLoader;
+import seedu.saveit.model.ReadOnlyAccountList;
+
+/**
+ * Converts the data file of one {@code SaveItStorage} into the format of another, such as from json to binary.
+ * No data is lost: every account is converted, and the conversion fails instead of leaving out an account
+ * whose contents cannot be read.
+ */
+public class SaveItFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveItFileConverter.class);
+
+    private SaveItFileConverter() {}
+
+    /**
+     * Reads the data file of {@code source} and saves it to the data file of {@code target}.
+     * The two data files may be the same file.
+     *
+     * @return false if {@code source} has no data file, in which case nothing is saved.
+     * @throws DataConversionException if the data file of {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading or writing the data files.
+     */
+    public static boolean convert(SaveItStorage source, SaveItStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyAccountList> accountList = source.readSaveIt();
+        if (!accountList.isPresent()) {
+            return false;
+        }
+        target.saveSaveIt(loadAllAccounts(accountList.get()));
+        logger.info("Converted data file " + source.getSaveItFilePath() + " to " + target.getSaveItFilePath());
+        return true;
+    }
+
+    /**
+     * Returns a copy of {@code accountList} in which every account is loaded.
+     *
+     * @throws DataConversionException if the contents of an account cannot be loaded.
+     */
+    static AccountList loadAllAccounts(ReadOnlyAccountList accountList) throws DataConversionException {
+        AccountList loaded = new AccountList(false);
+        for (Account account : accountList.getAccounts().values()) {
+            Optional<AccountLoader> loader = account.getPendingLoader();
+            if (!loader.isPresent()) {
+                loaded.addAccount(account);
+                continue;
+            }
+            try {
+                // The loader may give the name the account was read with, if it has been renamed since.
+                Account loadedAccount = loader.get().load();
+                loaded.addAccount(Objects.equals(loadedAccount.getAccountName(), account.getAccountName())
+                        ? loadedAccount
+                        : loadedAccount.copyAccountWithNewName(account.getAccountName()));
+            } catch (IllegalValueException ive) {
+                throw new DataConversionException(ive);
+            }
+        }
+        loaded.updateActiveAccount(accountList.getActiveAccountName());
+        return loaded;
+    }
+}
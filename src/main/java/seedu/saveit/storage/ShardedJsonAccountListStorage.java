@@ -0,0 +1,336 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.ReadOnlyAccountList;
+
+/**
+ * A class to access Account data stored as json files on the hard disk, with one file for each account.
+ * The data file is a manifest naming the active account and the file of each account, which are kept in
+ * the accounts directory next to it. Each account file is a {@link JsonAccountListStorage} data file
+ * of that account only, with its own journal.
+ * Only the accounts modified since the data file was last read or saved are written, and only the file
+ * of the active account is read with the manifest. Data files in which all accounts are stored, as written by
+ * {@code JsonAccountListStorage}, are read as well, and are replaced by a manifest when next saved. The data file
+ * replaced is kept in its backup file.
+ * If the data file is named as a compressed file, such as {@code saveit.json.gz}, the manifest and the account
+ * files are compressed with gzip.
+ */
+public class ShardedJsonAccountListStorage implements SaveItStorage {
+
+    public static final String MESSAGE_MISSING_ACCOUNT_FILE = "The file of account %s is missing.";
+    public static final String MESSAGE_UNREADABLE_ACCOUNT_FILE = "The file of account %s cannot be read.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonAccountListStorage.class);
+    private static final String ACCOUNTS_DIRECTORY_SUFFIX = ".accounts";
+    private static final String ACCOUNT_FILE_FORMAT = "account-%d.json";
+
+    private Path filePath;
+    // The manifest last read from or saved to the data file, or null if it is not known.
+    private JsonSerializableManifest savedManifest;
+    // Version of the account last read from or saved to each account file, by the name of the file.
+    private final Map<String, Account.Version> savedVersions = new HashMap<>();
+    // Storage of each account file, which keeps track of its journal, by the name of the file.
+    private final Map<String, JsonAccountListStorage> accountStorages = new HashMap<>();
+
+    public ShardedJsonAccountListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the directory the account files of the data file {@code filePath} are kept in.
+     */
+    static Path getAccountsDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ACCOUNTS_DIRECTORY_SUFFIX);
+    }
+
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAccountList> readSaveIt() throws DataConversionException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}.
+     * Only the file of the active account is read. The other accounts are read when they are first used.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest, or the file of the active account, is not in the correct
+     *     format, or if the file of the active account is missing.
+     */
+    public Optional<ReadOnlyAccountList> readSaveIt(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            forget();
+        }
+        Optional<JsonSerializableManifest> manifest = JsonUtil.readJsonFile(filePath,
+                JsonSerializableManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            logger.info("Reading " + filePath + ", in which all accounts are stored");
+            return new JsonAccountListStorage(filePath).readSaveIt(filePath);
+        }
+
+        AccountList accountList = new AccountList(false);
+        String activeAccountName = manifest.get().getActiveAccountName();
+        Path accountsDirectory = getAccountsDirectory(filePath);
+        for (Map.Entry<String, String> accountFile : manifest.get().getAccountFiles().entrySet()) {
+            String name = accountFile.getKey();
+            Path accountFilePath = accountsDirectory.resolve(accountFile.getValue());
+            Account account;
+            if (name.equals(activeAccountName)) {
+                JsonAccountListStorage accountStorage = isOwnFile
+                        ? getAccountStorage(accountFile.getValue())
+                        : new JsonAccountListStorage(accountFilePath);
+                account = readAccount(accountStorage, name);
+            } else {
+                account = new Account(name, () -> readLazyAccount(accountFilePath, name));
+            }
+            accountList.addAccount(account);
+            if (isOwnFile) {
+                savedVersions.put(accountFile.getValue(), account.getVersion());
+            }
+        }
+        accountList.updateActiveAccount(activeAccountName);
+
+        if (isOwnFile) {
+            savedManifest = manifest.get();
+        }
+        return Optional.of(accountList);
+    }
+
+    /**
+     * Reads the account named {@code name} from the file of {@code accountStorage}.
+     * The account is named {@code name} even if it was renamed since the file was written.
+     */
+    private static Account readAccount(JsonAccountListStorage accountStorage, String name)
+            throws DataConversionException {
+        Optional<ReadOnlyAccountList> accountFile = accountStorage.readSaveIt();
+        if (!accountFile.isPresent() || accountFile.get().getAccounts().size() != 1) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_MISSING_ACCOUNT_FILE, name)));
+        }
+        Account account = accountFile.get().getAccounts().values().iterator().next();
+        if (account.getAccountName().equals(name)) {
+            return account;
+        }
+        Account renamed = account.copyAccountWithNewName(name);
+        account.discard();
+        return renamed;
+    }
+
+    private static Account readLazyAccount(Path accountFilePath, String name) throws IllegalValueException {
+        try {
+            return readAccount(new JsonAccountListStorage(accountFilePath), name);
+        } catch (DataConversionException dce) {
+            throw new IllegalValueException(String.format(MESSAGE_UNREADABLE_ACCOUNT_FILE, name), dce);
+        }
+    }
+
+    @Override
+    public ReadOnlyAccountList readSampleSaveIt() {
+        return new JsonAccountListStorage(filePath).readSampleSaveIt();
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlyAccountList addressBook) throws IOException {
+        saveSaveIt(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlyAccountList)}.
+     * If {@code filePath} is the file of this storage, only the files of the accounts modified since it was
+     * last read or saved are written, and the manifest is only written if the accounts were added, removed
+     * or renamed, or if the active account changed. Otherwise, the files of all accounts are written.
+     * The manifest is written last, so that a failure to save leaves it naming the account files of the last
+     * save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            Map<String, String> accountFiles = assignAccountFiles(addressBook.getAccounts(), filePath,
+                    new TreeMap<>(), new HashMap<>());
+            for (Map.Entry<String, String> accountFile : accountFiles.entrySet()) {
+                Path accountFilePath = getAccountsDirectory(filePath).resolve(accountFile.getValue());
+                new JsonAccountListStorage(accountFilePath).saveSaveIt(
+                        AccountList.of(addressBook.getAccounts().get(accountFile.getKey())));
+            }
+            // What the file holds is not known, so it is kept in case it stores all accounts.
+            JsonUtil.saveJsonFileKeepingBackup(
+                    new JsonSerializableManifest(addressBook.getActiveAccountName(), accountFiles), filePath);
+            return;
+        }
+
+        Map<String, String> savedAccountFiles = savedManifest == null
+                ? new TreeMap<>()
+                : savedManifest.getAccountFiles();
+        Map<String, String> accountFiles = assignAccountFiles(addressBook.getAccounts(), filePath,
+                savedAccountFiles, savedVersions);
+        // Accounts moved to new files may not have been loaded from their old files yet, which are only
+        // overwritten after them.
+        for (Map.Entry<String, String> accountFile : accountFiles.entrySet()) {
+            if (!savedVersions.containsKey(accountFile.getValue())) {
+                saveAccount(addressBook.getAccounts().get(accountFile.getKey()), accountFile.getValue());
+            }
+        }
+        for (Map.Entry<String, String> accountFile : accountFiles.entrySet()) {
+            Account account = addressBook.getAccounts().get(accountFile.getKey());
+            if (isModifiedSince(account, savedVersions.get(accountFile.getValue()))) {
+                saveAccount(account, accountFile.getValue());
+            }
+        }
+
+        JsonSerializableManifest manifest = new JsonSerializableManifest(addressBook.getActiveAccountName(),
+                accountFiles);
+        if (!manifest.equals(savedManifest)) {
+            if (savedManifest == null) {
+                // The data file may store all accounts, so its previous contents are kept in its backup file.
+                JsonUtil.saveJsonFileKeepingBackup(manifest, filePath);
+            } else {
+                JsonUtil.saveJsonFile(manifest, filePath);
+            }
+            // Left over if the data file stored all accounts before.
+            Files.deleteIfExists(AccountListJournal.getJournalFile(filePath));
+            savedManifest = manifest;
+        }
+        deleteAccountFilesExcept(accountFiles.values());
+    }
+
+    /**
+     * Returns the name of the file of each account in {@code accounts}, by account name.
+     * Accounts keep the file of the account they continue the history of, which is the file of the account of
+     * the same name unless the account was renamed, or replaced by a new account of the same name.
+     * The other accounts are given files that are not used yet.
+     *
+     * @param savedAccountFiles the name of the file of each account when it was last saved, by account name.
+     * @param savedVersions the version of the account last saved to each file, by file name.
+     */
+    private static Map<String, String> assignAccountFiles(Map<String, Account> accounts, Path filePath,
+                                                          Map<String, String> savedAccountFiles,
+                                                          Map<String, Account.Version> savedVersions) {
+        Map<String, String> accountFiles = new TreeMap<>();
+        Set<String> claimedFileNames = new HashSet<>();
+        accounts.forEach((name, account) -> {
+            String savedFileName = savedAccountFiles.get(name);
+            if (savedFileName != null && continuesHistory(account, savedVersions.get(savedFileName))) {
+                accountFiles.put(name, savedFileName);
+                claimedFileNames.add(savedFileName);
+            }
+        });
+        accounts.forEach((name, account) -> {
+            if (accountFiles.containsKey(name)) {
+                return;
+            }
+            for (String savedFileName : savedAccountFiles.values()) {
+                if (!claimedFileNames.contains(savedFileName)
+                        && continuesHistory(account, savedVersions.get(savedFileName))) {
+                    accountFiles.put(name, savedFileName);
+                    claimedFileNames.add(savedFileName);
+                    return;
+                }
+            }
+        });
+
+        Set<String> usedFileNames = new HashSet<>(savedVersions.keySet());
+        usedFileNames.addAll(savedAccountFiles.values());
+        for (String name : accounts.keySet()) {
+            if (!accountFiles.containsKey(name)) {
+                String fileName = getUnusedFileName(filePath, usedFileNames);
+                usedFileNames.add(fileName);
+                accountFiles.put(name, fileName);
+            }
+        }
+        return accountFiles;
+    }
+
+    private static boolean continuesHistory(Account account, Account.Version savedVersion) {
+        return savedVersion != null && account.getChangesSince(savedVersion).isPresent();
+    }
+
+    /**
+     * Returns the name of an account file that is not used yet. Account files are compressed if the data file is.
+     */
+    private static String getUnusedFileName(Path filePath, Set<String> usedFileNames) {
+        Path accountsDirectory = getAccountsDirectory(filePath);
+        String suffix = FileUtil.isCompressedFileName(filePath) ? FileUtil.COMPRESSED_FILE_SUFFIX : "";
+        for (int number = 1; ; number++) {
+            String fileName = String.format(ACCOUNT_FILE_FORMAT, number) + suffix;
+            if (!usedFileNames.contains(fileName) && !Files.exists(accountsDirectory.resolve(fileName))) {
+                return fileName;
+            }
+        }
+    }
+
+    private void saveAccount(Account account, String fileName) throws IOException {
+        getAccountStorage(fileName).saveSaveIt(AccountList.of(account));
+        savedVersions.put(fileName, account.getVersion());
+    }
+
+    private static boolean isModifiedSince(Account account, Account.Version savedVersion) {
+        if (savedVersion == null) {
+            return true;
+        }
+        return account.getChangesSince(savedVersion).map(changes -> !changes.isEmpty()).orElse(true);
+    }
+
+    /**
+     * Deletes the files this storage saved accounts to, that are not in {@code fileNamesInUse}.
+     */
+    private void deleteAccountFilesExcept(Collection<String> fileNamesInUse) throws IOException {
+        Set<String> unusedFileNames = new HashSet<>(savedVersions.keySet());
+        unusedFileNames.removeAll(fileNamesInUse);
+        for (String fileName : unusedFileNames) {
+            Path accountFilePath = getAccountsDirectory(filePath).resolve(fileName);
+            Files.deleteIfExists(accountFilePath);
+            Files.deleteIfExists(AccountListJournal.getJournalFile(accountFilePath));
+            Files.deleteIfExists(FileUtil.getBackupFile(accountFilePath));
+            savedVersions.remove(fileName);
+            accountStorages.remove(fileName);
+        }
+    }
+
+    private JsonAccountListStorage getAccountStorage(String fileName) {
+        return accountStorages.computeIfAbsent(fileName, unused ->
+                new JsonAccountListStorage(getAccountsDirectory(filePath).resolve(fileName)));
+    }
+
+    /**
+     * Forgets what was last read from or saved to the data file.
+     */
+    private void forget() {
+        savedManifest = null;
+        savedVersions.clear();
+        accountStorages.clear();
+    }
+
+}
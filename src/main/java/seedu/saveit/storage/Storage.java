@@ -3,6 +3,7 @@ package seedu.saveit.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.model.ReadOnlyAccountList;
@@ -29,4 +30,15 @@ public interface Storage extends SaveItStorage, UserPrefsStorage {
     @Override
     void saveSaveIt(ReadOnlyAccountList addressBook) throws IOException;
 
+    /**
+     * Sets the handler told of the failures to save the account list that happen after
+     * {@link #saveSaveIt(ReadOnlyAccountList)} has returned, if the account list is written in the background.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Waits until the account lists saved so far have been written, if they are written in the background.
+     */
+    void flushSaves();
+
 }
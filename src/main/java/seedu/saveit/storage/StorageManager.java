@@ -3,6 +3,7 @@ package seedu.saveit.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.saveit.commons.core.LogsCenter;
@@ -18,6 +19,8 @@ public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SaveItStorage saveItStorage;
+    // The same storage as saveItStorage if it writes in the background, or null.
+    private BackgroundSaveItStorage backgroundSaveItStorage;
     private UserPrefsStorage userPrefsStorage;
 
 
@@ -27,6 +30,11 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    public StorageManager(BackgroundSaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage) {
+        this((SaveItStorage) saveItStorage, userPrefsStorage);
+        backgroundSaveItStorage = saveItStorage;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -79,4 +87,18 @@ public class StorageManager implements Storage {
         saveItStorage.saveSaveIt(addressBook, filePath);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        if (backgroundSaveItStorage != null) {
+            backgroundSaveItStorage.setSaveFailureHandler(saveFailureHandler);
+        }
+    }
+
+    @Override
+    public void flushSaves() {
+        if (backgroundSaveItStorage != null) {
+            backgroundSaveItStorage.flush();
+        }
+    }
+
 }
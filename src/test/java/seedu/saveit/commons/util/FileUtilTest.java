@@ -1,13 +1,29 @@
 package seedu.saveit.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,103 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readBufferFromFile_smallAndLargeFiles_sameContents() throws IOException {
+        for (int size : new int[] {0, 100, 3 * 1024 * 1024}) {
+            byte[] contents = new byte[size];
+            new Random(size).nextBytes(contents);
+            Path file = testFolder.resolve("file" + size);
+            Files.write(file, contents);
+
+            ByteBuffer buffer = FileUtil.readBufferFromFile(file);
+            assertTrue(buffer.isReadOnly());
+            byte[] read = new byte[buffer.remaining()];
+            buffer.get(read);
+            assertArrayEquals(contents, read);
+        }
+    }
+
+    @Test
+    public void readBufferFromFile_largeFileReplaced_bufferKeepsOldContents() throws IOException {
+        Path file = testFolder.resolve("file.bin");
+        byte[] contents = new byte[3 * 1024 * 1024];
+        Arrays.fill(contents, (byte) 1);
+        FileUtil.writeToFileAtomically(file, out -> out.write(contents));
+        ByteBuffer buffer = FileUtil.readBufferFromFile(file);
+
+        FileUtil.writeToFileAtomically(file, out -> out.write(new byte[] {2}));
+
+        assertEquals(contents.length, buffer.remaining());
+        assertEquals(1, buffer.get(contents.length - 1));
+    }
+
+    @Test
+    public void openForReading_compressedAndPlainFiles_sameContents() throws IOException {
+        byte[] contents = "{\"tag\": \"Food\"}".getBytes("UTF-8");
+        Path compressedFile = testFolder.resolve("file.json.gz");
+        Path plainFile = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(compressedFile, FileUtil.compressing(out -> {
+            out.write(contents);
+            out.close();
+        }));
+        FileUtil.writeToFileAtomically(plainFile, out -> out.write(contents));
+
+        assertTrue(FileUtil.isCompressedFileName(compressedFile));
+        assertFalse(FileUtil.isCompressedFileName(plainFile));
+        for (Path file : new Path[] {compressedFile, plainFile}) {
+            try (InputStream in = FileUtil.openForReading(file)) {
+                ByteArrayOutputStream read = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                    read.write(buffer, 0, count);
+                }
+                assertArrayEquals(contents, read.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    public void writeToFileKeepingBackup_existingFile_replacesFileAndKeepsBackup() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeToFileKeepingBackup(file, out -> out.write("new".getBytes("UTF-8")));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(FileUtil.getBackupFile(file)));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(2, files.count()); // no temporary file left behind
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesFileWithoutBackup() throws IOException {
+        Path file = testFolder.resolve("data").resolve("preferences.json");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes("UTF-8")));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count()); // neither a backup nor a temporary file left behind
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileKeepingBackup(file, out -> {
+            out.write("new".getBytes("UTF-8"));
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFile(file)));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count()); // no temporary file left behind
+        }
+    }
+
 }
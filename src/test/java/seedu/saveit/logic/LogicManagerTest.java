@@ -93,6 +93,19 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAccountListStorage addressBookStorage =
+                new JsonAccountListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // Saving would throw, so the command only succeeds if nothing is saved.
+        String listCommand = AccLevelParser.COMMAND_WORD + " " + AccListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, AccListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredExpenditureList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredExpenditureList().remove(0));
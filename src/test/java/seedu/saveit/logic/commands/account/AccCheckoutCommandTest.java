@@ -1,11 +1,14 @@
 package seedu.saveit.logic.commands.account;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.saveit.commons.exceptions.IllegalValueException;
 import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.Account;
 import seedu.saveit.model.Model;
 import seedu.saveit.model.ModelManager;
 import seedu.saveit.model.UserPrefs;
@@ -25,6 +28,18 @@ public class AccCheckoutCommandTest {
         assertThrows(CommandException.class, () -> new AccCheckoutCommand(".").execute(model));
     }
 
+    @Test
+    public void execute_accountCannotBeLoaded_throwsCommandException() throws CommandException {
+        model.addAccount(new Account("broken", () -> {
+            throw new IllegalValueException("Corrupted");
+        }));
+        long count = model.getAccountListModificationCount();
+
+        assertThrows(CommandException.class, () -> new AccCheckoutCommand("broken").execute(model));
+        assertEquals("school", model.getAccountList().getActiveAccountName());
+        assertEquals(count, model.getAccountListModificationCount());
+    }
+
 
 }
 
@@ -29,7 +29,7 @@ import seedu.saveit.model.ReadOnlyAccountList;
 import seedu.saveit.model.ReadOnlyUserPrefs;
 import seedu.saveit.model.ReportableAccount;
 import seedu.saveit.model.budget.Budget;
-import seedu.saveit.model.budget.BudgetMap;
+import seedu.saveit.model.budget.ReadOnlyBudgetMap;
 import seedu.saveit.model.expenditure.BaseExp;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
@@ -236,7 +236,7 @@ public class ExpAddCommandTest {
         }
 
         @Override
-        public BudgetMap getBudgets() {
+        public ReadOnlyBudgetMap getBudgets() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -254,6 +254,11 @@ public class ExpAddCommandTest {
         public MonthlySpendingCalculator getMonthlySpending(String newActiveAccount) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getAccountListModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -294,7 +299,7 @@ public class ExpAddCommandTest {
 
         @Override
         public MonthlySpendingCalculator getMonthlySpending() {
-            return new MonthlySpendingCalculator(null, null, null, null);
+            return new MonthlySpendingCalculator(null, 0);
         }
 
         @Override
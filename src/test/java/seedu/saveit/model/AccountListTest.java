@@ -3,15 +3,24 @@ package seedu.saveit.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.exceptions.IllegalValueException;
 import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Repeat;
+import seedu.saveit.testutil.ExpenditureBuilder;
+import seedu.saveit.testutil.RepeatBuilder;
 
 public class AccountListTest {
 
@@ -79,6 +88,23 @@ public class AccountListTest {
         assertEquals(accountList.getReportableAccount(), empty);
     }
 
+    @Test
+    public void getModificationCount_onlyIncreasesOnSavedChanges() throws CommandException {
+        AccountList accountList = getTypicalAccountList();
+        long count = accountList.getModificationCount();
+
+        accountList.updateActiveDate(LocalDate.of(2019, 9, 11));
+        accountList.getMonthlySpending();
+        assertEquals(count, accountList.getModificationCount());
+
+        accountList.addExpenditure(new ExpenditureBuilder().build());
+        assertTrue(accountList.getModificationCount() > count);
+        count = accountList.getModificationCount();
+
+        accountList.renameAccount("work", "job");
+        assertTrue(accountList.getModificationCount() > count);
+    }
+
     @Test
     public void renameAccount_success() throws CommandException {
         AccountList accountList = getTypicalAccountList();
@@ -96,6 +122,18 @@ public class AccountListTest {
         assertEquals(school.getExpenditureList(), hmm.getExpenditureList());
     }
 
+    @Test
+    public void renameAccount_activeAccount_keepsSameAccount() throws CommandException {
+        AccountList accountList = getTypicalAccountList();
+        accountList.updateActiveAccount("school");
+        Account school = accountList.getAccounts().get("school");
+
+        assertEquals("hmm", accountList.renameAccount("school", "hmm"));
+
+        assertTrue(school == accountList.getAccounts().get("hmm"));
+        assertEquals("hmm", accountList.getActiveAccountName());
+    }
+
     @Test
     public void renameAccount_nullOldName_success() throws CommandException {
         AccountList accountList = getTypicalAccountList();
@@ -170,4 +208,93 @@ public class AccountListTest {
         AccountList accountList = new AccountList(true);
         assertFalse(accountList.updateActiveAccount("hmm"));
     }
+
+    @Test
+    public void updateActiveAccount_accountCannotBeLoaded_keepsActiveAccountAndThrows() {
+        AccountList accountList = getTypicalAccountList();
+        Account broken = new Account("broken", () -> {
+            throw new IllegalValueException("Corrupted");
+        });
+        accountList.addAccount(broken);
+        long count = accountList.getModificationCount();
+
+        assertThrows(AccountNotLoadedException.class, () -> accountList.updateActiveAccount("broken"));
+        assertEquals("school", accountList.getActiveAccountName());
+        assertEquals(count, accountList.getModificationCount());
+        assertFalse(broken.isLoaded());
+        assertTrue(broken.getPendingLoader().isPresent());
+    }
+
+    @Test
+    public void deleteAccount_activeAccountWithOnlyUnloadableOthers_throwsCommandException() {
+        AccountList accountList = new AccountList(true);
+        accountList.addAccount(new Account("broken", () -> {
+            throw new IllegalValueException("Corrupted");
+        }));
+        long count = accountList.getModificationCount();
+
+        assertThrows(CommandException.class, () -> accountList.deleteAccount(AccountList.DEFAULT_ACCOUNT_NAME));
+        assertEquals(AccountList.DEFAULT_ACCOUNT_NAME, accountList.getActiveAccountName());
+        assertEquals(2, accountList.getAccounts().size());
+        assertEquals(count, accountList.getModificationCount());
+    }
+
+    @Test
+    public void getExpenditureList_afterChanges_followsDisplayedList() {
+        ObservableList<Expenditure> expenditures = accountListWithDefault.getExpenditureList();
+        ObservableList<Repeat> repeats = accountListWithDefault.getRepeatList();
+        LocalDate date = LocalDate.parse("2019-09-11");
+        accountListWithDefault.updateActiveDate(date);
+
+        Expenditure expenditure = new ExpenditureBuilder().withDate("2019-09-11").build();
+        Repeat repeat = new RepeatBuilder().withStartDate("2019-09-01").withEndDate("2019-09-30")
+                .withPeriod("DAILY").build();
+        accountListWithDefault.addExpenditure(expenditure);
+        accountListWithDefault.addRepeat(repeat);
+
+        assertSame(expenditures, accountListWithDefault.getExpenditureList());
+        assertEquals(Collections.singletonList(expenditure), expenditures);
+        assertEquals(Collections.singletonList(repeat), repeats);
+
+        accountListWithDefault.updateActiveDate(date.plusDays(1));
+        assertTrue(expenditures.isEmpty());
+        assertEquals(Collections.singletonList(repeat), repeats);
+    }
+
+    @Test
+    public void updateActiveAccount_accountsWithEqualEntries_displaysEntriesOfActiveAccount() {
+        accountListWithDefault.updateActiveDate(LocalDate.parse("2019-09-11"));
+        Expenditure expenditure = new ExpenditureBuilder().withDate("2019-09-11").build();
+        Expenditure equalExpenditure = new ExpenditureBuilder(expenditure).build();
+        assertEquals(expenditure, equalExpenditure);
+        accountListWithDefault.addExpenditure(expenditure);
+        Account other = new Account("other");
+        other.addExpenditure(equalExpenditure);
+        accountListWithDefault.addAccount(other);
+
+        accountListWithDefault.updateActiveAccount("other");
+        assertEquals(equalExpenditure.getId(), accountListWithDefault.getBaseExpList().get(0).getId());
+        accountListWithDefault.updateActiveAccount("default");
+        assertEquals(expenditure.getId(), accountListWithDefault.getBaseExpList().get(0).getId());
+    }
+
+    @Test
+    public void removeExpenditure_thenAddAndEdit_keepsExpendituresBeforeRepeats() {
+        accountListWithDefault.updateActiveDate(LocalDate.parse("2019-09-11"));
+        Expenditure first = new ExpenditureBuilder().withInfo("first").withDate("2019-09-11").build();
+        Expenditure second = new ExpenditureBuilder().withInfo("second").withDate("2019-09-11").build();
+        Expenditure third = new ExpenditureBuilder().withInfo("third").withDate("2019-09-11").build();
+        Repeat repeat = new RepeatBuilder().withStartDate("2019-09-01").withEndDate("2019-09-30")
+                .withPeriod("DAILY").build();
+        accountListWithDefault.addExpenditure(first);
+        accountListWithDefault.addExpenditure(second);
+        accountListWithDefault.addRepeat(repeat);
+
+        accountListWithDefault.removeExpenditure(first);
+        accountListWithDefault.addExpenditure(third);
+        Expenditure editedSecond = new ExpenditureBuilder(second).withAmount(99).build();
+        accountListWithDefault.setExpenditure(second, editedSecond);
+
+        assertEquals(Arrays.asList(editedSecond, third, repeat), accountListWithDefault.getBaseExpList());
+    }
 }
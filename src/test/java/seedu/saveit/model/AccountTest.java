@@ -9,7 +9,11 @@ import static seedu.saveit.logic.commands.CommandTestUtil.VALID_TAG_BUS;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccounts;
 import static seedu.saveit.testutil.TypicalExpenditures.ALICE;
+import static seedu.saveit.testutil.TypicalExpenditures.BENSON;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -17,9 +21,12 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.expenditure.Amount;
 import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Repeat;
 import seedu.saveit.testutil.ExpenditureBuilder;
+import seedu.saveit.testutil.RepeatBuilder;
 
 public class AccountTest {
 
@@ -72,6 +79,40 @@ public class AccountTest {
         assertThrows(UnsupportedOperationException.class, () -> account.getExpenditureList().remove(0));
     }
 
+    @Test
+    public void calculateMonthly_tracksExpenditureAndRepeatChanges() {
+        YearMonth september = YearMonth.of(2019, 9);
+        account.setBudget(september, new Amount(100));
+        Repeat weekly = new RepeatBuilder().withStartDate("2019-09-02").withEndDate("2019-10-31")
+                .withAmount(2).withPeriod("WEEKLY").build();
+
+        account.addExpenditure(ALICE);
+        account.addRepeat(weekly);
+        assertEquals(3.14 + 2 * 5, account.calculateMonthly(september).getTotalSpending(), 1e-9);
+
+        Expenditure movedAlice = new ExpenditureBuilder(ALICE).withDate("2019-10-01").build();
+        account.setExpenditure(ALICE, movedAlice);
+        account.removeRepeat(weekly);
+        assertEquals(0, account.calculateMonthly(september).getTotalSpending(), 1e-9);
+    }
+
+    @Test
+    public void setRepeat_identicalRepeats_editsRepeatWithSameId() {
+        Repeat first = new RepeatBuilder().build();
+        Repeat second = new RepeatBuilder().build();
+        account.addRepeat(first);
+        account.addRepeat(second);
+
+        Repeat editedSecond = new RepeatBuilder().withInfo("Edited").build();
+        account.setRepeat(second, editedSecond);
+        assertEquals(Arrays.asList(first, editedSecond), account.getRepeatList());
+        assertTrue(account.getRepeatList().get(0) == first);
+
+        account.removeRepeat(editedSecond);
+        account.setRepeat(first, editedSecond);
+        assertEquals(Collections.singletonList(editedSecond), account.getRepeatList());
+    }
+
     @Test
     public void copyAccountWithNewName_sameData() {
         Account personal = new Account("personal");
@@ -98,6 +139,153 @@ public class AccountTest {
         assertEquals(personal.getAccountName(), "personal");
     }
 
+    @Test
+    public void copyAccountWithNewName_keepsRepeatsAndBudgets() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        personal.addRepeat(new RepeatBuilder().build());
+        personal.setBudget(YearMonth.of(2019, 9), new Amount(100));
+        Account personal1 = personal.copyAccountWithNewName("personal1");
+
+        assertEquals(personal.getExpenditureList(), personal1.getExpenditureList());
+        assertEquals(personal.getRepeatList(), personal1.getRepeatList());
+        assertEquals(100.0, personal1.getBudget(YearMonth.of(2019, 9)));
+    }
+
+    @Test
+    public void copyAccountWithNewName_modifyCopy_originalUnchanged() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        Account personal1 = personal.copyAccountWithNewName("personal1");
+
+        Expenditure editedAlice = new ExpenditureBuilder(ALICE).withTag(VALID_TAG_BUS).build();
+        personal1.setExpenditure(ALICE, editedAlice);
+        personal1.addRepeat(new RepeatBuilder().build());
+        personal1.setBudget(YearMonth.of(2019, 9), new Amount(100));
+
+        assertEquals(Collections.singletonList(ALICE), personal.getExpenditureList());
+        assertTrue(personal.getRepeatList().isEmpty());
+        assertEquals(null, personal.getBudget(YearMonth.of(2019, 9)));
+        assertEquals(Collections.singletonList(editedAlice), personal1.getExpenditureList());
+    }
+
+    @Test
+    public void copyAccountWithNewName_modifyOriginal_copyUnchanged() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        Account personal1 = personal.copyAccountWithNewName("personal1");
+
+        personal.removeExpenditure(ALICE);
+
+        assertTrue(personal.getExpenditureList().isEmpty());
+        assertEquals(Collections.singletonList(ALICE), personal1.getExpenditureList());
+    }
+
+    @Test
+    public void getExpenditureList_loaderFails_throwsAndKeepsLoaderForRetry() {
+        boolean[] isFixed = {false};
+        Account work = new Account("work", () -> {
+            if (!isFixed[0]) {
+                throw new IllegalValueException("Corrupted");
+            }
+            Account loaded = new Account("work");
+            loaded.addExpenditure(ALICE);
+            return loaded;
+        });
+
+        assertThrows(AccountNotLoadedException.class, work::getExpenditureList);
+        assertFalse(work.isLoaded());
+        assertTrue(work.getPendingLoader().isPresent());
+
+        isFixed[0] = true;
+        assertEquals(Collections.singletonList(ALICE), work.getExpenditureList());
+        assertTrue(work.isLoaded());
+    }
+
+    @Test
+    public void getBudgetList_modifyBudgets_throwsUnsupportedOperationException() {
+        Account personal = new Account("personal");
+        personal.setBudget(YearMonth.of(2019, 9), new Amount(100));
+        Account personal1 = personal.copyAccountWithNewName("personal1");
+
+        assertThrows(UnsupportedOperationException.class, () ->
+                personal1.getBudgetList().getBudgets().put(YearMonth.of(2019, 9), 200.0));
+        assertEquals(100.0, personal.getBudget(YearMonth.of(2019, 9)));
+    }
+
+    @Test
+    public void getChangesSince_modified_returnsChangedEntriesAndBudgets() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        Account.Version version = personal.getVersion();
+
+        personal.addExpenditure(BENSON);
+        personal.removeExpenditure(ALICE);
+        personal.setBudget(YearMonth.of(2019, 9), new Amount(100));
+
+        Account.Changes changes = personal.getChangesSince(version).get();
+        assertEquals(Arrays.asList(BENSON.getId(), ALICE.getId()), new ArrayList<>(changes.getEntryIds()));
+        assertEquals(Collections.singleton(YearMonth.of(2019, 9)), changes.getBudgetMonths());
+        assertTrue(personal.getChangesSince(personal.getVersion()).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_modifiedCopy_continuesFromOriginal() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        Account.Version version = personal.getVersion();
+        Account personal1 = personal.copyAccountWithNewName("personal1");
+
+        personal1.addExpenditure(BENSON);
+
+        assertEquals(Collections.singleton(BENSON.getId()), personal1.getChangesSince(version).get().getEntryIds());
+        assertTrue(personal.getChangesSince(version).get().isEmpty());
+        assertFalse(personal.getChangesSince(personal1.getVersion()).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_copiedAndModifiedTwice_continuesFromFirstVersion() {
+        Account personal = new Account("personal");
+        Account.Version version = personal.getVersion();
+        Account firstCopy = personal.copyAccountWithNewName("personal");
+        personal.addExpenditure(ALICE);
+        Account secondCopy = personal.copyAccountWithNewName("personal");
+        personal.addExpenditure(BENSON);
+
+        assertEquals(Arrays.asList(ALICE.getId(), BENSON.getId()),
+                new ArrayList<>(personal.getChangesSince(version).get().getEntryIds()));
+        assertTrue(firstCopy.getChangesSince(version).get().isEmpty());
+        assertEquals(Collections.singleton(ALICE.getId()), secondCopy.getChangesSince(version).get().getEntryIds());
+    }
+
+    @Test
+    public void snapshotWith_modifiedAfterSnapshot_snapshotKeepsVersionAndChanges() {
+        Account personal = new Account("personal");
+        personal.addExpenditure(ALICE);
+        Account.Version version = personal.getVersion();
+        personal.addExpenditure(BENSON);
+        Account snapshot = personal.snapshotWith(() -> new Account("personal"));
+        Account.Version snapshotVersion = personal.getVersion();
+
+        personal.removeExpenditure(ALICE);
+
+        assertEquals(snapshotVersion, snapshot.getVersion());
+        assertEquals(Collections.singleton(BENSON.getId()), snapshot.getChangesSince(version).get().getEntryIds());
+        assertEquals(Collections.singleton(ALICE.getId()),
+                personal.getChangesSince(snapshot.getVersion()).get().getEntryIds());
+        assertFalse(snapshot.isLoaded());
+    }
+
+    @Test
+    public void getChangesSince_replacedContents_returnsEmpty() {
+        Account personal = new Account("personal");
+        Account.Version version = personal.getVersion();
+
+        personal.setExpenditures(Collections.singletonList(ALICE));
+
+        assertFalse(personal.getChangesSince(version).isPresent());
+    }
+
     /**
      * A stub ReadOnlyAccount whose expenditures list can violate interface constraints.
      */
@@ -1,5 +1,6 @@
 package seedu.saveit.model.expenditure;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
@@ -43,9 +44,35 @@ public class AmountTest {
         assertFalse(Amount.isValidAmount(123.333));
         assertFalse(Amount.isValidAmount("123.112"));
 
+        // not plain decimal notation
+        assertFalse(Amount.isValidAmount("1e2"));
+        assertFalse(Amount.isValidAmount("."));
+        assertFalse(Amount.isValidAmount("1,000"));
+
+        // not less than 1 billion
+        assertFalse(Amount.isValidAmount("1000000000"));
+        assertFalse(Amount.isValidAmount(1000000000));
+
         // valid
         assertTrue(Amount.isValidAmount(123.33));
         assertTrue(Amount.isValidAmount("123.1"));
         assertTrue(Amount.isValidAmount("1"));
+        assertTrue(Amount.isValidAmount(" 1.50 ")); // surrounding whitespace
+        assertTrue(Amount.isValidAmount("1.500")); // trailing zeros after 2 decimal places
+        assertTrue(Amount.isValidAmount("999999999.99"));
+    }
+
+    @Test
+    public void constructor_validAmount_storesCents() {
+        assertEquals(12310, new Amount("123.1").cents);
+        assertEquals(5, new Amount(".05").cents);
+        assertEquals(new Amount(0.1), new Amount("0.10"));
+        assertEquals(0.3, Amount.toDollars(new Amount(0.1).cents + new Amount(0.2).cents));
+    }
+
+    @Test
+    public void fromCents_invalidCents_throwsIllegalArgumentException() {
+        assertEquals(new Amount(3.14), Amount.fromCents(314));
+        assertThrows(IllegalArgumentException.class, () -> Amount.fromCents(0));
     }
 }
@@ -0,0 +1,62 @@
+package seedu.saveit.model.expenditure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DailySpendingTreeTest {
+
+    private final DailySpendingTree tree = new DailySpendingTree();
+
+    @Test
+    public void getTotal_emptyTree_returnsZero() {
+        assertEquals(0, tree.getTotal(LocalDate.parse("2019-01-01"), LocalDate.parse("2019-12-31")));
+    }
+
+    @Test
+    public void getTotal_rangeWithinWindow_sumsDaysInRange() {
+        tree.add(LocalDate.parse("2019-03-16"), 150);
+        tree.add(LocalDate.parse("2019-03-17"), 225);
+        tree.add(LocalDate.parse("2019-03-17"), 25);
+        tree.add(LocalDate.parse("2019-04-01"), 1000);
+
+        assertEquals(250, tree.getTotal(LocalDate.parse("2019-03-17"), LocalDate.parse("2019-03-31")));
+        assertEquals(1400, tree.getTotal(LocalDate.parse("2019-01-01"), LocalDate.parse("2019-12-31")));
+        assertEquals(0, tree.getTotal(LocalDate.parse("2019-04-01"), LocalDate.parse("2019-03-17")));
+    }
+
+    @Test
+    public void getTotal_afterGrowingInBothDirections_keepsEarlierAmounts() {
+        tree.add(LocalDate.parse("2019-03-17"), 314);
+        tree.add(LocalDate.parse("2030-11-02"), 100);
+        tree.add(LocalDate.parse("1990-01-01"), 200);
+
+        assertEquals(314, tree.getTotal(LocalDate.parse("2019-03-17"), LocalDate.parse("2019-03-17")));
+        assertEquals(414, tree.getTotal(LocalDate.parse("2000-01-01"), LocalDate.parse("2099-12-31")));
+        assertEquals(614, tree.getTotal(LocalDate.parse("1900-01-01"), LocalDate.parse("2099-12-31")));
+    }
+
+    @Test
+    public void getTotal_afterRemovingAmounts_returnsZero() {
+        tree.add(LocalDate.parse("2019-03-17"), 10);
+        tree.add(LocalDate.parse("2019-03-17"), 20);
+        tree.add(LocalDate.parse("2019-03-17"), -10);
+        tree.add(LocalDate.parse("2019-03-17"), -20);
+
+        assertEquals(0, tree.getTotal(LocalDate.parse("2019-03-01"), LocalDate.parse("2019-03-31")));
+    }
+
+    @Test
+    public void getTotal_farApartDates_sumsBoth() {
+        LocalDate farFuture = LocalDate.of(100000, 1, 1);
+        tree.add(LocalDate.parse("2020-01-01"), 500);
+        tree.add(farFuture, 700);
+
+        assertEquals(500, tree.getTotal(LocalDate.parse("2020-01-01"), LocalDate.parse("2020-01-01")));
+        assertEquals(700, tree.getTotal(farFuture, farFuture));
+        assertEquals(1200, tree.getTotal(LocalDate.parse("2019-12-31"), farFuture));
+        assertEquals(0, tree.getTotal(LocalDate.parse("2020-01-02"), farFuture.minusDays(1)));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.saveit.model.expenditure;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -27,10 +30,41 @@ public class DateTest {
         // invalid date
         assertFalse(seedu.saveit.model.expenditure.Date.isValidDate("")); // empty string
         assertFalse(seedu.saveit.model.expenditure.Date.isValidDate(" ")); // spaces only
+        assertFalse(Date.isValidDate("+9999999-01-01")); // epoch day does not fit in an int
+        assertFalse(Date.isValidDate("-9999999-01-01"));
 
         // valid date
         assertTrue(seedu.saveit.model.expenditure.Date.isValidDate("2019-09-11"));
         assertTrue(seedu.saveit.model.expenditure.Date.isValidDate("2019-09-11"));
         assertTrue(seedu.saveit.model.expenditure.Date.isValidDate("2019-09-11"));
     }
+
+    @Test
+    public void constructor_dateOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Date("+9999999-01-01"));
+        assertThrows(IllegalArgumentException.class, () -> Date.fromLocalDate(LocalDate.of(9999999, 1, 1)));
+    }
+
+    @Test
+    public void factories_sameDay_equal() {
+        Date date = new Date("2019-09-11");
+        LocalDate localDate = LocalDate.of(2019, 9, 11);
+
+        assertEquals(date, Date.fromLocalDate(localDate));
+        assertEquals(date, Date.fromEpochDay(localDate.toEpochDay()));
+        assertEquals(localDate, date.getLocalDate());
+        assertEquals("2019-09-11", Date.fromLocalDate(localDate).toString());
+    }
+
+    @Test
+    public void isEqualOrBefore_comparesDays() {
+        Date earlier = new Date("2019-09-11");
+        Date later = new Date("2020-01-01");
+
+        assertTrue(Date.isEqualOrBefore(earlier, later));
+        assertTrue(Date.isEqualOrBefore(earlier, new Date("2019-09-11")));
+        assertFalse(Date.isEqualOrBefore(later, earlier));
+        assertTrue(Date.isEqualOrAfter(later, earlier));
+        assertFalse(Date.isValidDateRange(later, earlier));
+    }
 }
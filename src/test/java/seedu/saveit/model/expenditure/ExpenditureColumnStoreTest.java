@@ -0,0 +1,123 @@
+package seedu.saveit.model.expenditure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.saveit.testutil.Assert.assertThrows;
+import static seedu.saveit.testutil.TypicalExpenditures.ALICE;
+import static seedu.saveit.testutil.TypicalExpenditures.BENSON;
+import static seedu.saveit.testutil.TypicalExpenditures.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.saveit.testutil.ExpenditureBuilder;
+
+public class ExpenditureColumnStoreTest {
+
+    private final ExpenditureColumnStore store = new ExpenditureColumnStore();
+
+    @Test
+    public void get_afterAdd_returnsEqualExpenditures() {
+        store.addAll(ALICE, BENSON);
+        store.add(1, CARL);
+
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), store);
+    }
+
+    @Test
+    public void remove_freesSlotForReuse() {
+        store.addAll(ALICE, BENSON, CARL);
+        int bensonSlot = store.slotAt(1);
+        store.remove(1);
+        store.add(BENSON);
+
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), store);
+        assertEquals(bensonSlot, store.slotAt(2));
+        assertEquals(2, store.indexOfSlot(bensonSlot));
+    }
+
+    @Test
+    public void indexOfSlot_afterRemovals_matchesListOrder() {
+        List<Expenditure> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Expenditure expenditure = new ExpenditureBuilder().withAmount(i + 1).build();
+            store.add(expenditure);
+            expected.add(expenditure);
+        }
+        for (int i = 0; i < 60; i += 3) {
+            store.remove(i);
+            expected.remove(i);
+        }
+        store.add(5, ALICE);
+        expected.add(5, ALICE);
+        store.remove(0);
+        expected.remove(0);
+
+        assertEquals(expected, store);
+        for (int i = 0; i < store.size(); i++) {
+            assertEquals(i, store.indexOfSlot(store.slotAt(i)));
+        }
+        assertEquals(-1, store.indexOfSlot(store.size() + 100));
+    }
+
+    @Test
+    public void set_keepsSlotAndFiresReplacement() {
+        store.addAll(ALICE, BENSON);
+        int slot = store.slotAt(0);
+        List<String> changes = new ArrayList<>();
+        store.addListener((ListChangeListener<Expenditure>) change -> {
+            while (change.next()) {
+                changes.add(change.getRemoved() + " -> " + change.getAddedSubList());
+            }
+        });
+
+        store.set(0, CARL);
+
+        assertEquals(slot, store.slotAt(0));
+        assertTrue(store.matches(slot, CARL));
+        assertEquals(Arrays.asList("[" + ALICE + "] -> [" + CARL + "]"), changes);
+    }
+
+    @Test
+    public void get_afterAdd_keepsIds() {
+        store.addAll(ALICE, BENSON);
+        assertEquals(ALICE.getId(), store.get(0).getId());
+        assertEquals(BENSON.getId(), store.idAt(store.slotAt(1)));
+    }
+
+    @Test
+    public void get_sameRow_sharesTagAndInfoWithoutNewIds() {
+        store.add(ALICE);
+        Expenditure first = store.get(0);
+        Expenditure before = new ExpenditureBuilder().build();
+        Expenditure second = store.get(0);
+        Expenditure after = new ExpenditureBuilder().build();
+
+        assertSame(first.getInfo(), second.getInfo());
+        assertSame(first.getTag(), second.getTag());
+        assertEquals(before.getId() + 1, after.getId());
+    }
+
+    @Test
+    public void setAndRemove_dropUnusedTagsAndInfos() {
+        store.addAll(ALICE, BENSON);
+        store.set(0, CARL);
+        store.remove(1);
+
+        assertEquals(2, store.getDictionarySize());
+        store.remove(0);
+        assertEquals(0, store.getDictionarySize());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        store.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.add(2, BENSON));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.saveit.model.expenditure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.saveit.testutil.RepeatBuilder;
+
+public class RepeatIntervalIndexTest {
+
+    private static final Repeat EXPIRED = new RepeatBuilder().withInfo("Expired")
+            .withStartDate("2015-01-01").withEndDate("2015-12-31").build();
+    private static final Repeat LONG_RUNNING = new RepeatBuilder().withInfo("Long running")
+            .withStartDate("2010-01-01").withEndDate("2030-12-31").build();
+    private static final Repeat SHORT = new RepeatBuilder().withInfo("Short")
+            .withStartDate("2019-09-10").withEndDate("2019-09-12").build();
+    private static final Repeat FUTURE = new RepeatBuilder().withInfo("Future")
+            .withStartDate("2025-01-01").withEndDate("2025-12-31").build();
+
+    private final RepeatIntervalIndex index = new RepeatIntervalIndex();
+
+    @BeforeEach
+    public void setUp() {
+        for (Repeat repeat : Arrays.asList(SHORT, EXPIRED, LONG_RUNNING, FUTURE)) {
+            index.add(repeat);
+        }
+    }
+
+    @Test
+    public void getRepeatsOverlapping_singleDate_returnsActiveRepeatsByStartDate() {
+        assertEquals(Arrays.asList(LONG_RUNNING, SHORT),
+                index.getRepeatsOverlapping(LocalDate.parse("2019-09-12"), LocalDate.parse("2019-09-12")));
+        assertEquals(Collections.singletonList(LONG_RUNNING),
+                index.getRepeatsOverlapping(LocalDate.parse("2019-09-13"), LocalDate.parse("2019-09-13")));
+        assertTrue(index.getRepeatsOverlapping(LocalDate.parse("2031-01-01"), LocalDate.parse("2031-01-01"))
+                .isEmpty());
+    }
+
+    @Test
+    public void getRepeatsOverlapping_range_returnsRepeatsTouchingRange() {
+        assertEquals(Arrays.asList(LONG_RUNNING, EXPIRED, SHORT, FUTURE),
+                index.getRepeatsOverlapping(LocalDate.parse("2015-12-31"), LocalDate.parse("2025-01-01")));
+    }
+
+    @Test
+    public void getRepeatsOverlapping_afterAddAndRemove_followsChanges() {
+        index.remove(LONG_RUNNING);
+        Repeat added = new RepeatBuilder().withInfo("Added")
+                .withStartDate("2019-09-01").withEndDate("2019-09-30").build();
+        index.add(added);
+
+        assertEquals(Arrays.asList(added, SHORT),
+                index.getRepeatsOverlapping(LocalDate.parse("2019-09-12"), LocalDate.parse("2019-09-12")));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void copy_modifiedAfterCopy_originalUnchanged() {
+        RepeatIntervalIndex copy = new RepeatIntervalIndex(index);
+        copy.remove(SHORT);
+        copy.remove(LONG_RUNNING);
+
+        assertTrue(copy.getRepeatsOverlapping(LocalDate.parse("2019-09-12"), LocalDate.parse("2019-09-12"))
+                .isEmpty());
+        assertEquals(Arrays.asList(LONG_RUNNING, SHORT),
+                index.getRepeatsOverlapping(LocalDate.parse("2019-09-12"), LocalDate.parse("2019-09-12")));
+    }
+
+    @Test
+    public void getRepeatsOverlapping_manyRepeats_sameAsFilteringEveryRepeat() {
+        List<Repeat> added = new ArrayList<>();
+        LocalDate start = LocalDate.parse("2019-01-01");
+        for (int i = 0; i < 300; i++) {
+            Repeat repeat = new RepeatBuilder().withInfo("Repeat")
+                    .withStartDate(start.plusDays(i).toString())
+                    .withEndDate(start.plusDays(i + (i * 7) % 40).toString()).build();
+            index.add(repeat);
+            added.add(repeat);
+        }
+        for (int i = 0; i < 300; i += 2) {
+            index.remove(added.get(i));
+        }
+
+        LocalDate queried = LocalDate.parse("2019-06-01");
+        List<Repeat> expected = new ArrayList<>();
+        for (int i = 1; i < 300; i += 2) {
+            Repeat repeat = added.get(i);
+            if (!repeat.getStartDate().getLocalDate().isAfter(queried)
+                    && !repeat.getEndDate().getLocalDate().isBefore(queried)) {
+                expected.add(repeat);
+            }
+        }
+        expected.add(0, LONG_RUNNING);
+        assertEquals(expected, index.getRepeatsOverlapping(queried, queried));
+    }
+}
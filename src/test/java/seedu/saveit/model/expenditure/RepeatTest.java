@@ -1,4 +1,69 @@
 package seedu.saveit.model.expenditure;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.saveit.testutil.RepeatBuilder;
+
 public class RepeatTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final Repeat weekly = new RepeatBuilder().withAmount(2).withStartDate("2019-09-02")
+            .withEndDate("2019-10-31").withPeriod("WEEKLY").build();
+    private final Repeat monthly = new RepeatBuilder().withAmount(2).withStartDate("2020-01-31")
+            .withEndDate("2020-12-31").withPeriod("MONTHLY").build();
+    private final Repeat annually = new RepeatBuilder().withAmount(2).withStartDate("2020-02-29")
+            .withEndDate("2030-12-31").withPeriod("ANNUALLY").build();
+
+    @Test
+    public void isOn_weekly() {
+        assertTrue(weekly.isOn(LocalDate.parse("2019-09-02")));
+        assertTrue(weekly.isOn(LocalDate.parse("2019-10-28")));
+        assertFalse(weekly.isOn(LocalDate.parse("2019-09-03")));
+        assertFalse(weekly.isOn(LocalDate.parse("2019-08-26")));
+        assertFalse(weekly.isOn(LocalDate.parse("2019-11-04")));
+    }
+
+    @Test
+    public void isOn_monthly_clampsToEndOfMonth() {
+        assertTrue(monthly.isOn(LocalDate.parse("2020-02-29")));
+        assertTrue(monthly.isOn(LocalDate.parse("2020-03-31")));
+        assertTrue(monthly.isOn(LocalDate.parse("2020-04-30")));
+        assertFalse(monthly.isOn(LocalDate.parse("2020-03-30")));
+        assertFalse(monthly.isOn(LocalDate.parse("2019-12-31")));
+    }
+
+    @Test
+    public void isOn_annually_clampsToEndOfFebruary() {
+        assertTrue(annually.isOn(LocalDate.parse("2021-02-28")));
+        assertTrue(annually.isOn(LocalDate.parse("2024-02-29")));
+        assertFalse(annually.isOn(LocalDate.parse("2024-02-28")));
+        assertFalse(annually.isOn(LocalDate.parse("2021-03-01")));
+    }
+
+    @Test
+    public void calculateForGivenYearMonth_countsOccurrencesInMonth() {
+        assertEquals(5 * 2, weekly.calculateForGivenYearMonth(YearMonth.of(2019, 9)), DELTA);
+        assertEquals(4 * 2, weekly.calculateForGivenYearMonth(YearMonth.of(2019, 10)), DELTA);
+        assertEquals(0, weekly.calculateForGivenYearMonth(YearMonth.of(2019, 11)), DELTA);
+        assertEquals(2, monthly.calculateForGivenYearMonth(YearMonth.of(2020, 2)), DELTA);
+        assertEquals(0, annually.calculateForGivenYearMonth(YearMonth.of(2021, 3)), DELTA);
+    }
+
+    @Test
+    public void calculateRepeatTillEndDate_stopsAtRepeatEndDate() {
+        assertEquals(4 * 2, weekly.calculateRepeatTillEndDate(LocalDate.parse("2019-10-01"),
+                LocalDate.parse("2019-10-31")), DELTA);
+        assertEquals(2, annually.calculateRepeatTillEndDate(LocalDate.parse("2022-02-01"),
+                LocalDate.parse("2022-02-28")), DELTA);
+        assertEquals(0, monthly.calculateRepeatTillEndDate(LocalDate.parse("2020-03-01"),
+                LocalDate.parse("2020-03-30")), DELTA);
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.saveit.model.expenditure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.saveit.testutil.ExpenditureBuilder;
+
+public class TagSpendingCubeTest {
+
+    private static final Tag FOOD = new Tag("food");
+    private static final Tag BUS = new Tag("bus");
+
+    private static final Expenditure EARLY_SEPTEMBER_FOOD = new ExpenditureBuilder().withInfo("Early")
+            .withDate("2019-09-02").withAmount(2).withTag("food").build();
+    private static final Expenditure LATE_SEPTEMBER_FOOD = new ExpenditureBuilder().withInfo("Late")
+            .withDate("2019-09-28").withAmount(3).withTag("food").build();
+    private static final Expenditure OCTOBER_FOOD = new ExpenditureBuilder().withInfo("October")
+            .withDate("2019-10-15").withAmount(5).withTag("food").build();
+    private static final Expenditure OCTOBER_BUS = new ExpenditureBuilder().withInfo("Bus")
+            .withDate("2019-10-31").withAmount(7).withTag("bus").build();
+
+    private final TagSpendingCube cube = new TagSpendingCube();
+
+    @Test
+    public void getTotals_wholeMonths_sumsMonthCells() {
+        addAll();
+        Map<Tag, Map<YearMonth, Long>> expected = new HashMap<>();
+        expected.put(FOOD, new HashMap<>());
+        expected.get(FOOD).put(YearMonth.of(2019, 9), 500L);
+        expected.get(FOOD).put(YearMonth.of(2019, 10), 500L);
+        expected.put(BUS, new HashMap<>());
+        expected.get(BUS).put(YearMonth.of(2019, 10), 700L);
+
+        assertEquals(expected, cube.getTotals(LocalDate.parse("2019-09-01"), LocalDate.parse("2019-10-31")));
+    }
+
+    @Test
+    public void getTotals_partialMonths_sumsOnlyDaysInRange() {
+        addAll();
+        Map<Tag, Map<YearMonth, Long>> expected = new HashMap<>();
+        expected.put(FOOD, new HashMap<>());
+        expected.get(FOOD).put(YearMonth.of(2019, 9), 300L);
+        expected.get(FOOD).put(YearMonth.of(2019, 10), 500L);
+
+        assertEquals(expected, cube.getTotals(LocalDate.parse("2019-09-10"), LocalDate.parse("2019-10-30")));
+        assertEquals(expected.get(FOOD).get(YearMonth.of(2019, 9)),
+                cube.getTotals(LocalDate.parse("2019-09-03"), LocalDate.parse("2019-09-28"))
+                        .get(FOOD).get(YearMonth.of(2019, 9)));
+    }
+
+    @Test
+    public void getTotals_afterRemove_dropsEmptyCells() {
+        addAll();
+        cube.remove(OCTOBER_BUS);
+        cube.remove(EARLY_SEPTEMBER_FOOD);
+
+        Map<Tag, Map<YearMonth, Long>> totals =
+                cube.getTotals(LocalDate.parse("2019-09-01"), LocalDate.parse("2019-10-31"));
+        assertEquals(1, totals.size());
+        assertEquals(300L, totals.get(FOOD).get(YearMonth.of(2019, 9)));
+        assertTrue(cube.getTotals(LocalDate.parse("2019-09-01"), LocalDate.parse("2019-09-27")).isEmpty());
+    }
+
+    @Test
+    public void getTotals_startAfterEnd_returnsEmptyMap() {
+        addAll();
+        assertTrue(cube.getTotals(LocalDate.parse("2019-10-31"), LocalDate.parse("2019-09-01")).isEmpty());
+    }
+
+    /**
+     * Adds all the sample expenditures to the cube.
+     */
+    private void addAll() {
+        cube.add(EARLY_SEPTEMBER_FOOD);
+        cube.add(LATE_SEPTEMBER_FOOD);
+        cube.add(OCTOBER_FOOD);
+        cube.add(OCTOBER_BUS);
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalExpenditures.ALICE;
 import static seedu.saveit.testutil.TypicalExpenditures.BOB;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -131,6 +133,16 @@ public class UniqueExpenditureListTest {
         assertEquals(expectedUniqueExpenditureList, uniqueExpenditureList);
     }
 
+    @Test
+    public void remove_oneOfTwoEqualExpenditures_stillContainsOther() {
+        uniqueExpenditureList.add(ALICE);
+        uniqueExpenditureList.add(new ExpenditureBuilder(ALICE).build());
+        uniqueExpenditureList.remove(ALICE);
+        assertTrue(uniqueExpenditureList.contains(ALICE));
+        uniqueExpenditureList.remove(ALICE);
+        assertFalse(uniqueExpenditureList.contains(ALICE));
+    }
+
     @Test
     public void setExpenditures_nullUniqueExpenditureList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -159,6 +171,7 @@ public class UniqueExpenditureListTest {
         UniqueExpenditureList expectedUniqueExpenditureList = new UniqueExpenditureList();
         expectedUniqueExpenditureList.add(BOB);
         assertEquals(expectedUniqueExpenditureList, uniqueExpenditureList);
+        assertFalse(uniqueExpenditureList.contains(ALICE));
     }
 
     /*
@@ -170,6 +183,38 @@ public class UniqueExpenditureListTest {
     }
      */
 
+    @Test
+    public void getExpendituresOn_afterEdit_followsNewDate() {
+        uniqueExpenditureList.add(ALICE);
+        Expenditure editedAlice = new ExpenditureBuilder(ALICE).withDate(VALID_DATE_MRT).build();
+        uniqueExpenditureList.setExpenditure(ALICE, editedAlice);
+
+        assertTrue(uniqueExpenditureList.getExpendituresOn(ALICE.getDate().getLocalDate()).isEmpty());
+        assertEquals(Collections.singletonList(editedAlice),
+                uniqueExpenditureList.getExpendituresOn(editedAlice.getDate().getLocalDate()));
+    }
+
+    @Test
+    public void getExpendituresFromToInclusive_returnsOnlyEntriesInRangeOrderedByDate() {
+        Expenditure earlier = new ExpenditureBuilder(ALICE).withDate("2019-09-10").build();
+        Expenditure later = new ExpenditureBuilder(ALICE).withDate("2019-09-12").build();
+        uniqueExpenditureList.add(later);
+        uniqueExpenditureList.add(ALICE);
+        uniqueExpenditureList.add(earlier);
+
+        assertEquals(Arrays.asList(earlier, ALICE),
+                uniqueExpenditureList.getExpendituresFromToInclusive(LocalDate.parse("2019-09-01"),
+                        LocalDate.parse("2019-09-11")));
+        assertEquals(Collections.singletonList(later),
+                uniqueExpenditureList.getExpendituresFromToInclusive(LocalDate.parse("2019-09-12"),
+                        LocalDate.parse("2019-09-12")));
+
+        uniqueExpenditureList.remove(ALICE);
+        assertEquals(Arrays.asList(earlier, later),
+                uniqueExpenditureList.getExpendituresFromToInclusive(LocalDate.parse("2019-09-10"),
+                        LocalDate.parse("2019-09-12")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
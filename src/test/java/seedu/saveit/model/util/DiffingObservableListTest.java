@@ -0,0 +1,81 @@
+package seedu.saveit.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class DiffingObservableListTest {
+
+    private final DiffingObservableList<String> list = new DiffingObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+    private int changeCount = 0;
+
+    /**
+     * Fills the list with {@code initial} and starts recording the changes made to it afterwards.
+     */
+    private void setUp(String... initial) {
+        list.addAll(initial);
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void update_sameContents_firesNoChange() {
+        setUp("a", "b", "c");
+        list.update(Arrays.asList("a", "b", "c"));
+
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void update_differentContents_firesOneChangeWithOnlyDifferences() {
+        setUp("a", "b", "c", "d");
+        list.update(Arrays.asList("a", "x", "c", "d", "e"));
+
+        assertEquals(Arrays.asList("a", "x", "c", "d", "e"), list);
+        assertEquals(1, changeCount);
+        assertEquals(Arrays.asList("1:[b]->[x]", "4:[]->[e]"), changes);
+    }
+
+    @Test
+    public void update_reordered_keepsCommonSubsequence() {
+        setUp("a", "b", "c");
+        list.update(Arrays.asList("c", "a", "b"));
+
+        assertEquals(Arrays.asList("c", "a", "b"), list);
+        assertEquals(1, changeCount);
+        assertEquals(Arrays.asList("0:[]->[c]", "3:[c]->[]"), changes);
+    }
+
+    @Test
+    public void update_emptyContents_removesEverything() {
+        setUp("a", "b");
+        list.update(Collections.emptyList());
+
+        assertEquals(Collections.emptyList(), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void update_equalButNotSame_replacesElement() {
+        DiffingObservableList<String> identityList = new DiffingObservableList<>((element, other) -> element == other);
+        String element = new String("a");
+        String equalElement = new String("a");
+        identityList.add(element);
+
+        identityList.update(Collections.singletonList(equalElement));
+        assertSame(equalElement, identityList.get(0));
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.saveit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
+import static seedu.saveit.testutil.TypicalExpenditures.ALICE;
+import static seedu.saveit.testutil.TypicalExpenditures.BENSON;
+import static seedu.saveit.testutil.TypicalExpenditures.HOON;
+import static seedu.saveit.testutil.TypicalExpenditures.IDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.budget.Budget;
+import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.model.expenditure.Expenditure;
+import seedu.saveit.model.expenditure.Info;
+
+public class BackgroundSaveItStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION = new IllegalStateException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private BackgroundSaveItStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new BackgroundSaveItStorage(new JsonAccountListStorage(testFolder.resolve("saveit.json")));
+    }
+
+    @Test
+    public void saveSaveIt_modifiedAfterSave_writesAccountListAsSaved() throws Exception {
+        AccountList original = getTypicalAccountList();
+        storage.saveSaveIt(original);
+        AccountList saved = new AccountList(original);
+
+        original.addExpenditure(HOON);
+        storage.flush();
+        assertEquals(saved, new AccountList(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_manySaves_writesLatest() throws Exception {
+        AccountList original = getTypicalAccountList();
+        storage.saveSaveIt(original);
+        original.addExpenditure(HOON);
+        storage.saveSaveIt(original);
+        original.addExpenditure(IDA);
+        storage.saveSaveIt(original);
+
+        storage.flush();
+        assertEquals(original, new AccountList(storage.readSaveIt().get()));
+
+        // Saved after the data file was read, so only appended to its journal
+        original.deleteAccount(original.getActiveAccountName());
+        storage.saveSaveIt(original);
+        assertEquals(original, new AccountList(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_modifiedBetweenSaves_writesChanges() throws Exception {
+        AccountList original = getTypicalAccountList();
+        storage.saveSaveIt(original);
+        original.addExpenditure(HOON);
+        original.setExpenditure(ALICE, new Expenditure(ALICE.getId(), new Info("Alice Tan"), ALICE.getAmount(),
+                ALICE.getDate(), ALICE.getTag()));
+        original.removeExpenditure(BENSON);
+        original.setBudget(new Budget(YearMonth.of(2019, 3), new Amount(100)));
+        storage.saveSaveIt(original);
+        original.addExpenditure(IDA);
+        original.removeExpenditure(HOON);
+        storage.saveSaveIt(original);
+
+        storage.flush();
+        ReadOnlyAccountList readBack = storage.readSaveIt().get();
+        assertEquals(original, new AccountList(readBack));
+        assertEquals(100.0, readBack.getAccounts().get("school").getBudget(YearMonth.of(2019, 3)));
+    }
+
+    @Test
+    public void saveSaveIt_modifiedWhileWriting_accountNotCopied() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        BackgroundSaveItStorage blockingStorage = new BackgroundSaveItStorage(
+                new JsonAccountListBlockingStub(testFolder.resolve("saveit.json"), writeStarted, writeAllowed));
+        AccountList original = getTypicalAccountList();
+        // Modified first, so that the account no longer shares its stores with the typical account
+        original.addExpenditure(IDA);
+        Account school = original.getAccounts().get("school");
+        ObservableList<Expenditure> schoolExpenditures = school.getExpenditureList();
+        List<Expenditure> savedExpenditures = new ArrayList<>(schoolExpenditures);
+
+        blockingStorage.saveSaveIt(original);
+        writeStarted.await();
+        original.addExpenditure(HOON);
+        // The account kept its own stores, instead of copying them away from the snapshot being written
+        assertSame(schoolExpenditures, school.getExpenditureList());
+
+        writeAllowed.countDown();
+        blockingStorage.flush();
+        ReadOnlyAccountList readBack = blockingStorage.readSaveIt().get();
+        assertEquals(savedExpenditures, new ArrayList<>(readBack.getAccounts().get("school").getExpenditureList()));
+    }
+
+    @Test
+    public void saveSaveIt_writeFails_failureHandlerCalled() {
+        BackgroundSaveItStorage failingStorage = new BackgroundSaveItStorage(
+                new JsonAccountListIoExceptionThrowingStub(testFolder.resolve("ioExceptionSaveIt.json")));
+        List<IOException> failures = new ArrayList<>();
+        failingStorage.setSaveFailureHandler(failures::add);
+
+        failingStorage.saveSaveIt(getTypicalAccountList());
+        failingStorage.flush();
+        assertEquals(1, failures.size());
+        assertSame(DUMMY_IO_EXCEPTION, failures.get(0));
+    }
+
+    @Test
+    public void saveSaveIt_writeThrowsRuntimeException_failureHandlerCalled() {
+        BackgroundSaveItStorage failingStorage = new BackgroundSaveItStorage(
+                new JsonAccountListRuntimeExceptionThrowingStub(testFolder.resolve("runtimeExceptionSaveIt.json")));
+        List<IOException> failures = new ArrayList<>();
+        failingStorage.setSaveFailureHandler(failures::add);
+
+        failingStorage.saveSaveIt(getTypicalAccountList());
+        failingStorage.flush();
+        assertEquals(1, failures.size());
+        assertSame(DUMMY_RUNTIME_EXCEPTION, failures.get(0).getCause());
+    }
+
+    /**
+     * A stub class that waits until it is allowed to write when the save method is called.
+     */
+    private static class JsonAccountListBlockingStub extends JsonAccountListStorage {
+        private final CountDownLatch writeStarted;
+        private final CountDownLatch writeAllowed;
+
+        private JsonAccountListBlockingStub(Path filePath, CountDownLatch writeStarted,
+                                            CountDownLatch writeAllowed) {
+            super(filePath);
+            this.writeStarted = writeStarted;
+            this.writeAllowed = writeAllowed;
+        }
+
+        @Override
+        public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            super.saveSaveIt(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonAccountListIoExceptionThrowingStub extends JsonAccountListStorage {
+        private JsonAccountListIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class to throw a {@code RuntimeException} when the save method is called.
+     */
+    private static class JsonAccountListRuntimeExceptionThrowingStub extends JsonAccountListStorage {
+        private JsonAccountListRuntimeExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSaveIt(ReadOnlyAccountList addressBook, Path filePath) {
+            throw DUMMY_RUNTIME_EXCEPTION;
+        }
+    }
+}
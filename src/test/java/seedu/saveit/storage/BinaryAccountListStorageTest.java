@@ -0,0 +1,130 @@
+package seedu.saveit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.saveit.testutil.Assert.assertThrows;
+import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.ReadOnlyAccountList;
+import seedu.saveit.model.budget.Budget;
+import seedu.saveit.model.expenditure.Amount;
+import seedu.saveit.testutil.RepeatBuilder;
+
+public class BinaryAccountListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAccountListStorage storage;
+    private AccountList original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("saveit.bin");
+        storage = new BinaryAccountListStorage(filePath);
+        original = getTypicalAccountList();
+        original.addRepeat(new RepeatBuilder().build());
+        original.setBudget(new Budget(YearMonth.of(2020, 3), new Amount(123.45)));
+    }
+
+    @Test
+    public void readSaveIt_saved_onlyActiveAccountConverted() throws Exception {
+        storage.saveSaveIt(original);
+        assertTrue(BinaryAccountListStorage.isBinaryFile(filePath));
+
+        ReadOnlyAccountList readBack = storage.readSaveIt().get();
+        assertFalse(readBack.getAccounts().get("school").getPendingLoader().isPresent());
+        assertTrue(readBack.getAccounts().get("work").getPendingLoader().isPresent());
+        assertEquals(original.getBudgets().getBudgets(),
+                readBack.getAccounts().get("school").getBudgetList().getBudgets());
+        assertEquals(original, new AccountList(readBack));
+    }
+
+    @Test
+    public void saveSaveIt_accountsNotLoaded_copiedAsRead() throws Exception {
+        storage.saveSaveIt(original);
+        ReadOnlyAccountList readBack = storage.readSaveIt().get();
+
+        Path copyPath = testFolder.resolve("copy.bin");
+        storage.saveSaveIt(readBack, copyPath);
+        assertTrue(readBack.getAccounts().get("work").getPendingLoader().isPresent());
+        assertEquals(original, new AccountList(storage.readSaveIt(copyPath).get()));
+    }
+
+    @Test
+    public void saveSaveIt_corruptedAccountNotLoaded_throwsIoExceptionAndKeepsFile() throws Exception {
+        storage.saveSaveIt(original);
+        byte[] savedBytes = Files.readAllBytes(filePath);
+
+        // A block whose name is followed by an expenditure count larger than what is left of it.
+        BinaryAccountListReader.AccountBlock corruptedBlock =
+                new BinaryAccountListReader.AccountBlock(ByteBuffer.wrap(new byte[] {1, 5}), new String[] {"work"});
+        List<Account> accounts = new ArrayList<>(storage.readSaveIt().get().getAccounts().values());
+        accounts.removeIf(account -> account.getAccountName().equals("work"));
+        accounts.add(new Account("work", corruptedBlock));
+        AccountList corrupted = AccountList.of(accounts, "school");
+
+        assertThrows(IOException.class, String.format(BinaryAccountListWriter.MESSAGE_ACCOUNT_NOT_WRITTEN, "work",
+                BinaryDecoder.MESSAGE_CORRUPTED), () -> storage.saveSaveIt(corrupted));
+        assertArrayEquals(savedBytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAccountList() throws Exception {
+        JsonAccountListStorage jsonStorage = new JsonAccountListStorage(testFolder.resolve("saveit.json"));
+        jsonStorage.saveSaveIt(original);
+
+        assertTrue(SaveItFileConverter.convert(jsonStorage, storage));
+        assertTrue(Files.size(filePath) < Files.size(jsonStorage.getSaveItFilePath()));
+
+        JsonAccountListStorage convertedBack = new JsonAccountListStorage(testFolder.resolve("converted.json"));
+        assertTrue(SaveItFileConverter.convert(storage, convertedBack));
+        assertEquals(original, new AccountList(convertedBack.readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_jsonFile_throwsDataConversionException() throws Exception {
+        JsonAccountListStorage jsonStorage = new JsonAccountListStorage(filePath);
+        jsonStorage.saveSaveIt(original);
+
+        assertFalse(BinaryAccountListStorage.isBinaryFile(filePath));
+        assertThrows(DataConversionException.class, () -> storage.readSaveIt());
+    }
+
+    @Test
+    public void readSaveIt_cutShortFile_throwsDataConversionException() throws Exception {
+        storage.saveSaveIt(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> storage.readSaveIt());
+    }
+
+    @Test
+    public void readSaveIt_corruptedStringCount_throwsDataConversionException() throws Exception {
+        // Magic bytes, format version 1, then a string count of Integer.MAX_VALUE with no strings after it.
+        byte[] header = {'$', 'V', 'I', 'T', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        Files.write(filePath, header);
+
+        assertThrows(DataConversionException.class, () -> storage.readSaveIt());
+    }
+}
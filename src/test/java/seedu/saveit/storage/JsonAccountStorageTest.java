@@ -1,7 +1,9 @@
 package seedu.saveit.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
 // import static seedu.saveit.testutil.TypicalExpenditures.ALICE;
@@ -10,13 +12,17 @@ import static seedu.saveit.testutil.TypicalExpenditures.IDA;
 // import static seedu.saveit.testutil.TypicalExpenditures.getTypicalAccount;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
 // import seedu.saveit.model.Account;
 import seedu.saveit.model.AccountList;
 // import seedu.saveit.model.ReadOnlyAccount;
@@ -91,6 +97,116 @@ public class JsonAccountStorageTest {
 
     }
 
+    @Test
+    public void saveSaveIt_afterRead_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAccountListStorage jsonAccountListStorage = new JsonAccountListStorage(filePath);
+        jsonAccountListStorage.saveSaveIt(getTypicalAccountList());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        AccountList modified = new AccountList(jsonAccountListStorage.readSaveIt().get());
+        modified.addExpenditure(HOON);
+        modified.renameAccount("work", "job");
+        jsonAccountListStorage.saveSaveIt(modified);
+
+        // Only the journal is written to, and reading the file replays it.
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(FileUtil.isFileExists(AccountListJournal.getJournalFile(filePath)));
+        assertEquals(modified, new AccountList(new JsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_withJournal_onlyActiveAccountConverted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAccountListStorage jsonAccountListStorage = new JsonAccountListStorage(filePath);
+        jsonAccountListStorage.saveSaveIt(getTypicalAccountList());
+
+        AccountList modified = new AccountList(jsonAccountListStorage.readSaveIt().get());
+        modified.updateActiveAccount("work");
+        modified.addExpenditure(IDA);
+        modified.renameAccount("work", "job");
+        modified.updateActiveAccount("school");
+        modified.addExpenditure(HOON);
+        jsonAccountListStorage.saveSaveIt(modified);
+        assertTrue(FileUtil.isFileExists(AccountListJournal.getJournalFile(filePath)));
+
+        // The journal is replayed over the accounts as read, and the changes to the others wait until they are used.
+        ReadOnlyAccountList readBack = new JsonAccountListStorage(filePath).readSaveIt().get();
+        assertEquals("school", readBack.getActiveAccountName());
+        assertFalse(readBack.getAccounts().get("school").getPendingLoader().isPresent());
+        assertTrue(readBack.getAccounts().get("job").getPendingLoader().isPresent());
+        assertTrue(readBack.getAccounts().get("cca").getPendingLoader().isPresent());
+        assertEquals(modified, new AccountList(readBack));
+    }
+
+    @Test
+    public void readSaveIt_cutShortJournalRecord_recordLeftOut() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAccountListStorage jsonAccountListStorage = new JsonAccountListStorage(filePath);
+        jsonAccountListStorage.saveSaveIt(getTypicalAccountList());
+        AccountList modified = new AccountList(jsonAccountListStorage.readSaveIt().get());
+        modified.addExpenditure(HOON);
+        jsonAccountListStorage.saveSaveIt(modified);
+
+        Path journalFile = AccountListJournal.getJournalFile(filePath);
+        FileUtil.appendToFile(journalFile, "{\"type\":\"PUT_EXPENDITURE\",\"acc");
+        JsonAccountListStorage reopenedStorage = new JsonAccountListStorage(filePath);
+        AccountList readBack = new AccountList(reopenedStorage.readSaveIt().get());
+        assertEquals(modified, readBack);
+
+        // The journal is not appended to after a cut short record, so the next save writes the whole file.
+        readBack.addExpenditure(IDA);
+        reopenedStorage.saveSaveIt(readBack);
+        assertFalse(FileUtil.isFileExists(journalFile));
+        assertEquals(readBack, new AccountList(reopenedStorage.readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_savedFile_onlyActiveAccountConverted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AccountList original = getTypicalAccountList();
+        new JsonAccountListStorage(filePath).saveSaveIt(original);
+
+        ReadOnlyAccountList readBack = new JsonAccountListStorage(filePath).readSaveIt().get();
+        assertFalse(readBack.getAccounts().get("school").getPendingLoader().isPresent());
+        assertTrue(readBack.getAccounts().get("work").getPendingLoader().isPresent());
+        assertEquals(original, new AccountList(readBack));
+    }
+
+    @Test
+    public void readSaveIt_currentAccountAfterAccounts_activeAccountConverted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AccountList original = getTypicalAccountList();
+        // Files written as a whole name the current account after the accounts.
+        JsonUtil.saveJsonFile(new JsonSerializableAccountList(original), filePath);
+
+        ReadOnlyAccountList readBack = new JsonAccountListStorage(filePath).readSaveIt().get();
+        assertEquals("school", readBack.getActiveAccountName());
+        assertFalse(readBack.getAccounts().get("school").getPendingLoader().isPresent());
+        assertEquals(original, new AccountList(readBack));
+    }
+
+    @Test
+    public void saveSaveIt_compressedFileName_compressedAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        AccountList original = getTypicalAccountList();
+        JsonAccountListStorage jsonAccountListStorage = new JsonAccountListStorage(filePath);
+        jsonAccountListStorage.saveSaveIt(original);
+        jsonAccountListStorage.saveSaveIt(original, uncompressedFilePath);
+
+        byte[] start = Arrays.copyOf(Files.readAllBytes(filePath), 2);
+        assertArrayEquals(new byte[] {(byte) 0x1f, (byte) 0x8b}, start);
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+        assertEquals(original, new AccountList(new JsonAccountListStorage(filePath).readSaveIt().get()));
+
+        // Changes are still appended to the journal, which is replayed over the compressed file.
+        AccountList modified = new AccountList(jsonAccountListStorage.readSaveIt().get());
+        modified.addExpenditure(HOON);
+        jsonAccountListStorage.saveSaveIt(modified);
+        assertEquals(modified, new AccountList(new JsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
     @Test
     public void saveSaveIt_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSaveIt(null, "SomeFile.json"));
@@ -1,6 +1,7 @@
 package seedu.saveit.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.saveit.storage.JsonAdaptedExpenditure.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalExpenditures.BENSON;
@@ -11,6 +12,7 @@ import seedu.saveit.commons.exceptions.IllegalValueException;
 
 import seedu.saveit.model.expenditure.Amount;
 import seedu.saveit.model.expenditure.Date;
+import seedu.saveit.model.expenditure.Expenditure;
 import seedu.saveit.model.expenditure.Info;
 
 public class JsonAdaptedExpenditureTest {
@@ -19,6 +21,7 @@ public class JsonAdaptedExpenditureTest {
     private static final double INVALID_AMOUNT = -1;
     private static final String INVALID_TAG = "#friend";
 
+    private static final Long VALID_ID = BENSON.getId();
     private static final String VALID_INFO = BENSON.getInfo().toString();
     private static final double VALID_AMOUNT = BENSON.getAmount().value;
     private static final String VALID_DATE = BENSON.getDate().toString();
@@ -30,17 +33,33 @@ public class JsonAdaptedExpenditureTest {
         assertEquals(BENSON, expenditure.toModelType());
     }
 
+    @Test
+    public void toModelType_withId_keepsId() throws Exception {
+        JsonAdaptedExpenditure expenditure = new JsonAdaptedExpenditure(BENSON);
+        assertEquals(BENSON.getId(), expenditure.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_returnsExpenditureWithNewId() throws Exception {
+        JsonAdaptedExpenditure expenditure = new JsonAdaptedExpenditure(null, VALID_INFO, VALID_AMOUNT, VALID_DATE,
+                VALID_TAG);
+        Expenditure modelExpenditure = expenditure.toModelType();
+        assertEquals(BENSON, modelExpenditure);
+        assertNotEquals(BENSON.getId(), modelExpenditure.getId());
+    }
+
     @Test
     public void toModelType_invalidInfo_throwsIllegalValueException() {
         JsonAdaptedExpenditure expenditure =
-                new JsonAdaptedExpenditure(INVALID_INFO, VALID_AMOUNT, VALID_DATE, VALID_TAG);
+                new JsonAdaptedExpenditure(VALID_ID, INVALID_INFO, VALID_AMOUNT, VALID_DATE, VALID_TAG);
         String expectedMessage = Info.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
 
     @Test
     public void toModelType_nullInfo_throwsIllegalValueException() {
-        JsonAdaptedExpenditure expenditure = new JsonAdaptedExpenditure(null, VALID_AMOUNT, VALID_DATE, VALID_TAG);
+        JsonAdaptedExpenditure expenditure =
+                new JsonAdaptedExpenditure(VALID_ID, null, VALID_AMOUNT, VALID_DATE, VALID_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Info.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
@@ -49,7 +68,7 @@ public class JsonAdaptedExpenditureTest {
     @Test
     public void toModelType_invalidAmount_throwsIllegalValueException() {
         JsonAdaptedExpenditure expenditure =
-                new JsonAdaptedExpenditure(VALID_INFO, INVALID_AMOUNT, VALID_DATE, VALID_TAG);
+                new JsonAdaptedExpenditure(VALID_ID, VALID_INFO, INVALID_AMOUNT, VALID_DATE, VALID_TAG);
         String expectedMessage = Amount.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
@@ -57,7 +76,7 @@ public class JsonAdaptedExpenditureTest {
     @Test
     public void toModelType_nullAmount_throwsIllegalValueException() {
         JsonAdaptedExpenditure expenditure =
-                new JsonAdaptedExpenditure(VALID_INFO, INVALID_AMOUNT, VALID_DATE, VALID_TAG);
+                new JsonAdaptedExpenditure(VALID_ID, VALID_INFO, INVALID_AMOUNT, VALID_DATE, VALID_TAG);
         String expectedMessage = Amount.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
@@ -65,14 +84,15 @@ public class JsonAdaptedExpenditureTest {
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedExpenditure expenditure =
-                new JsonAdaptedExpenditure(VALID_INFO, VALID_AMOUNT, INVALID_DATE, VALID_TAG);
+                new JsonAdaptedExpenditure(VALID_ID, VALID_INFO, VALID_AMOUNT, INVALID_DATE, VALID_TAG);
         String expectedMessage = Date.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
 
     @Test
     public void toModelType_nullDate_throwsIllegalValueException() {
-        JsonAdaptedExpenditure expenditure = new JsonAdaptedExpenditure(VALID_INFO, VALID_AMOUNT, null, VALID_TAG);
+        JsonAdaptedExpenditure expenditure =
+                new JsonAdaptedExpenditure(VALID_ID, VALID_INFO, VALID_AMOUNT, null, VALID_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, expenditure::toModelType);
     }
@@ -81,7 +101,7 @@ public class JsonAdaptedExpenditureTest {
     public void toModelType_invalidTags_throwsIllegalValueException() {
         JsonAdaptedTag invalidTag = new JsonAdaptedTag(INVALID_TAG);
         JsonAdaptedExpenditure expenditure =
-                new JsonAdaptedExpenditure(VALID_INFO, VALID_AMOUNT, VALID_DATE, invalidTag);
+                new JsonAdaptedExpenditure(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_DATE, invalidTag);
         assertThrows(IllegalValueException.class, expenditure::toModelType);
     }
 
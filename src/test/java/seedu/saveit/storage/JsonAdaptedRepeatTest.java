@@ -1,6 +1,7 @@
 package seedu.saveit.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.saveit.testutil.Assert.assertThrows;
 import static seedu.saveit.testutil.TypicalRepeats.BENSON;
 
@@ -22,6 +23,7 @@ public class JsonAdaptedRepeatTest {
     private static final String INVALID_TAG = "#friend";
     private static final String INVALID_PERIOD = "hourly";
 
+    private static final Long VALID_ID = BENSON.getId();
     private static final String VALID_INFO = BENSON.getInfo().toString();
     private static final double VALID_AMOUNT = BENSON.getAmount().value;
     private static final String VALID_START_DATE = BENSON.getStartDate().toString();
@@ -35,11 +37,26 @@ public class JsonAdaptedRepeatTest {
         assertEquals(TypicalRepeats.BENSON, repeat.toModelType());
     }
 
+    @Test
+    public void toModelType_withId_keepsId() throws Exception {
+        JsonAdaptedRepeat repeat = new JsonAdaptedRepeat(TypicalRepeats.BENSON);
+        assertEquals(TypicalRepeats.BENSON.getId(), repeat.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_returnsRepeatWithNewId() throws Exception {
+        JsonAdaptedRepeat repeat = new JsonAdaptedRepeat(null, VALID_INFO, VALID_AMOUNT, VALID_START_DATE,
+                VALID_END_DATE, VALID_PERIOD, VALID_TAG);
+        Repeat modelRepeat = repeat.toModelType();
+        assertEquals(BENSON, modelRepeat);
+        assertNotEquals(BENSON.getId(), modelRepeat.getId());
+    }
+
 
     @Test
     public void toModelType_invalidInfo_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(INVALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, INVALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         String expectedMessage = Info.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -48,7 +65,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_nullInfo_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(null, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, null, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         assertThrows(IllegalValueException.class, repeat::toModelType);
     }
@@ -56,7 +73,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_invalidAmount_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, INVALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, INVALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         String expectedMessage = Amount.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -65,7 +82,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_nullAmount_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, INVALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, INVALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         assertThrows(IllegalValueException.class, repeat::toModelType);
     }
@@ -73,7 +90,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_invalidStartDate_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, INVALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, INVALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         String expectedMessage = Date.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -82,7 +99,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_nullStartDate_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, null, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, null, VALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         assertThrows(IllegalValueException.class, repeat::toModelType);
     }
@@ -90,7 +107,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_invalidEndDate_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, VALID_START_DATE, INVALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_START_DATE, INVALID_END_DATE,
                         VALID_PERIOD, VALID_TAG);
         String expectedMessage = Date.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -99,7 +116,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_nullEndDate_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, VALID_START_DATE, null,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_START_DATE, null,
                         VALID_PERIOD, VALID_TAG);
         assertThrows(IllegalValueException.class, repeat::toModelType);
     }
@@ -107,7 +124,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_invalidTag_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         VALID_PERIOD, new JsonAdaptedTag(INVALID_TAG));
         String expectedMessage = Tag.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -116,7 +133,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_invalidPeriod_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         INVALID_PERIOD, VALID_TAG);
         String expectedMessage = Repeat.PERIOD_MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, repeat::toModelType);
@@ -125,7 +142,7 @@ public class JsonAdaptedRepeatTest {
     @Test
     public void toModelType_nullPeriod_throwsIllegalValueException() {
         JsonAdaptedRepeat repeat =
-                new JsonAdaptedRepeat(VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
+                new JsonAdaptedRepeat(VALID_ID, VALID_INFO, VALID_AMOUNT, VALID_START_DATE, VALID_END_DATE,
                         null, VALID_TAG);
         assertThrows(IllegalValueException.class, repeat::toModelType);
     }
@@ -1,17 +1,26 @@
 package seedu.saveit.storage;
 
-// import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.saveit.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.saveit.commons.exceptions.IllegalValueException;
 import seedu.saveit.commons.util.JsonUtil;
-// import seedu.saveit.model.Account;
-// import seedu.saveit.model.AccountList;
+import seedu.saveit.model.Account;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.AccountNotLoadedException;
+import seedu.saveit.model.expenditure.Date;
+import seedu.saveit.model.expenditure.Info;
 // import seedu.saveit.testutil.TypicalAccounts;
 // import seedu.saveit.testutil.TypicalExpenditures;
 
@@ -22,6 +31,8 @@ public class JsonSerializableAccountTest {
             TEST_DATA_FOLDER.resolve("typicalExpendituresAddressBook.json");
     private static final Path INVALID_EXPENDITURE_FILE =
             TEST_DATA_FOLDER.resolve("invalidExpenditureAddressBook.json");
+    private static final Path INVALID_INACTIVE_ACCOUNT_FILE =
+            TEST_DATA_FOLDER.resolve("invalidInactiveAccountAddressBook.json");
     // private static final Path DUPLICATE_EXPENDITURE_FILE =
     //        TEST_DATA_FOLDER.resolve("duplicateExpenditureAddressBook.json");
 
@@ -42,6 +53,36 @@ public class JsonSerializableAccountTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidInactiveAccount_loadsOnlyActiveAccount() throws Exception {
+        JsonSerializableAccountList dataFromFile = JsonUtil.readJsonFile(INVALID_INACTIVE_ACCOUNT_FILE,
+                JsonSerializableAccountList.class).get();
+        AccountList accountList = dataFromFile.toModelType();
+
+        assertEquals("school", accountList.getActiveAccountName());
+        assertTrue(accountList.getAccounts().get("school").isLoaded());
+        Account work = accountList.getAccounts().get("work");
+        assertFalse(work.isLoaded());
+
+        // An account that cannot be loaded fails when it is first used, and keeps its data for the next attempt.
+        assertThrows(AccountNotLoadedException.class, work::getExpenditureList);
+        assertFalse(work.isLoaded());
+    }
+
+    @Test
+    public void constructor_unloadedAccount_keepsDataWithoutLoading() throws Exception {
+        JsonSerializableAccountList dataFromFile = JsonUtil.readJsonFile(INVALID_INACTIVE_ACCOUNT_FILE,
+                JsonSerializableAccountList.class).get();
+        AccountList accountList = dataFromFile.toModelType();
+
+        JsonSerializableAccountList savedData = new JsonSerializableAccountList(accountList);
+        assertFalse(accountList.getAccounts().get("work").isLoaded());
+        // The invalid expenditure of the unloaded account is still there when it is read back.
+        assertFalse(savedData.toModelType().getAccounts().get("work").isLoaded());
+        assertThrows(IllegalValueException.class, new JsonSerializableAccount(
+                accountList.getAccounts().get("work"))::toModelType);
+    }
+
     // TODO: check for duplicate account instead of expenditures
     // @Test
     // public void toModelType_duplicateExpenditures_throwsIllegalValueException() throws Exception {
@@ -51,4 +92,42 @@ public class JsonSerializableAccountTest {
     //             dataFromFile::toModelType);
     // }
 
+    @Test
+    public void toModelType_manyExpenditures_keepsOrder() throws Exception {
+        List<JsonAdaptedExpenditure> expenditures = manyExpenditures(3000);
+        Account account = new JsonSerializableAccount("many", expenditures, new ArrayList<>(), new HashMap<>())
+                .toModelType();
+
+        assertEquals(3000, account.getExpenditureList().size());
+        for (int i = 0; i < 3000; i++) {
+            assertEquals("Item " + i, account.getExpenditureList().get(i).getInfo().fullInfo);
+        }
+    }
+
+    @Test
+    public void toModelType_manyExpendituresWithErrors_throwsFirstError() {
+        List<JsonAdaptedExpenditure> expenditures = manyExpenditures(3000);
+        expenditures.set(1000, new JsonAdaptedExpenditure(null, "F@od", 1, "2019-09-11", null));
+        expenditures.set(2000, new JsonAdaptedExpenditure(null, "Food", 1, "2019-02-31", null));
+        JsonSerializableAccount account =
+                new JsonSerializableAccount("many", expenditures, new ArrayList<>(), new HashMap<>());
+
+        assertThrows(IllegalValueException.class, Info.MESSAGE_CONSTRAINTS, account::toModelType);
+        expenditures.set(1000, new JsonAdaptedExpenditure(null, "Food", 1, "2019-09-11", null));
+        JsonSerializableAccount accountWithDateError =
+                new JsonSerializableAccount("many", expenditures, new ArrayList<>(), new HashMap<>());
+        assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, accountWithDateError::toModelType);
+    }
+
+    /**
+     * Returns {@code count} valid expenditures on different days, with their position in their info.
+     */
+    private static List<JsonAdaptedExpenditure> manyExpenditures(int count) {
+        List<JsonAdaptedExpenditure> expenditures = new ArrayList<>();
+        LocalDate date = LocalDate.parse("2019-01-01");
+        for (int i = 0; i < count; i++) {
+            expenditures.add(new JsonAdaptedExpenditure(null, "Item " + i, 1, date.plusDays(i).toString(), null));
+        }
+        return expenditures;
+    }
 }
@@ -0,0 +1,120 @@
+package seedu.saveit.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.saveit.testutil.TypicalAccounts.getTypicalAccountList;
+import static seedu.saveit.testutil.TypicalExpenditures.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.model.AccountList;
+import seedu.saveit.model.ReadOnlyAccountList;
+
+public class ShardedJsonAccountListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ShardedJsonAccountListStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("saveit.json");
+        storage = new ShardedJsonAccountListStorage(filePath);
+    }
+
+    @Test
+    public void readSaveIt_saved_onlyActiveAccountRead() throws Exception {
+        AccountList original = getTypicalAccountList();
+        storage.saveSaveIt(original);
+
+        ReadOnlyAccountList readBack = new ShardedJsonAccountListStorage(filePath).readSaveIt().get();
+        assertTrue(readBack.getAccounts().get("school").isLoaded());
+        assertFalse(readBack.getAccounts().get("work").isLoaded());
+        assertFalse(readBack.getAccounts().get("cca").isLoaded());
+        assertEquals(original, new AccountList(readBack));
+    }
+
+    @Test
+    public void saveSaveIt_oneAccountModified_onlyItsFileWritten() throws Exception {
+        storage.saveSaveIt(getTypicalAccountList());
+        AccountList modified = new AccountList(storage.readSaveIt().get());
+
+        modified.addExpenditure(HOON);
+        storage.saveSaveIt(modified);
+
+        Map<String, String> accountFiles = readManifest().getAccountFiles();
+        assertTrue(Files.exists(getJournalFile(accountFiles.get("school"))));
+        assertFalse(Files.exists(getJournalFile(accountFiles.get("work"))));
+        assertFalse(Files.exists(FileUtil.getBackupFile(getAccountFile(accountFiles.get("work")))));
+        assertEquals(modified, new AccountList(new ShardedJsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_accountRenamedAndRemoved_accountFilesKeptOrDeleted() throws Exception {
+        storage.saveSaveIt(getTypicalAccountList());
+        AccountList modified = new AccountList(storage.readSaveIt().get());
+        Map<String, String> savedAccountFiles = readManifest().getAccountFiles();
+
+        modified.renameAccount("work", "job");
+        modified.deleteAccount("cca");
+        storage.saveSaveIt(modified);
+
+        Map<String, String> accountFiles = readManifest().getAccountFiles();
+        assertEquals(savedAccountFiles.get("work"), accountFiles.get("job"));
+        assertFalse(Files.exists(getAccountFile(savedAccountFiles.get("cca"))));
+        assertEquals(modified, new AccountList(new ShardedJsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_readFromSingleFile_replacedByManifest() throws Exception {
+        AccountList original = getTypicalAccountList();
+        new JsonAccountListStorage(filePath).saveSaveIt(original);
+
+        ReadOnlyAccountList readBack = storage.readSaveIt().get();
+        assertEquals(original, new AccountList(readBack));
+
+        storage.saveSaveIt(readBack);
+        assertTrue(readManifest().isManifest());
+        assertEquals(original, new AccountList(new ShardedJsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_readFromSingleFile_singleFileKeptInBackup() throws Exception {
+        AccountList original = getTypicalAccountList();
+        new JsonAccountListStorage(filePath).saveSaveIt(original);
+        AccountList modified = new AccountList(storage.readSaveIt().get());
+
+        modified.addExpenditure(HOON);
+        storage.saveSaveIt(modified);
+        modified.renameAccount("work", "job");
+        storage.saveSaveIt(modified);
+
+        // The backup still holds the single file, as the later manifests did not replace a single file
+        Path backupFile = FileUtil.getBackupFile(filePath);
+        assertEquals(original, new AccountList(new JsonAccountListStorage(backupFile).readSaveIt().get()));
+        assertEquals(modified, new AccountList(new ShardedJsonAccountListStorage(filePath).readSaveIt().get()));
+    }
+
+    private JsonSerializableManifest readManifest() throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableManifest.class).get();
+    }
+
+    private Path getAccountFile(String fileName) {
+        return ShardedJsonAccountListStorage.getAccountsDirectory(filePath).resolve(fileName);
+    }
+
+    private Path getJournalFile(String fileName) {
+        return AccountListJournal.getJournalFile(getAccountFile(fileName));
+    }
+}
@@ -28,7 +28,7 @@ public class ExpenditureUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_INFO + expenditure.getInfo().fullInfo + " ");
         sb.append(PREFIX_AMOUNT + Double.toString(expenditure.getAmount().value) + " ");
-        sb.append(PREFIX_DATE + expenditure.getDate().value + " ");
+        sb.append(PREFIX_DATE + expenditure.getDate().toString() + " ");
         sb.append(PREFIX_TAG + expenditure.getTag().tagName + " ");
 
         return sb.toString();
@@ -41,7 +41,7 @@ public class ExpenditureUtil {
         StringBuilder sb = new StringBuilder();
         descriptor.getInfo().ifPresent(info -> sb.append(PREFIX_INFO).append(info.fullInfo).append(" "));
         descriptor.getAmount().ifPresent(amount -> sb.append(PREFIX_AMOUNT).append(amount.value).append(" "));
-        descriptor.getDate().ifPresent(date -> sb.append(PREFIX_DATE).append(date.value).append(" "));
+        descriptor.getDate().ifPresent(date -> sb.append(PREFIX_DATE).append(date).append(" "));
         descriptor.getTag().ifPresent(tag -> sb.append(PREFIX_TAG).append(tag.tagName).append(" "));
         return sb.toString();
     }
@@ -29,8 +29,8 @@ public class RepeatUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_INFO + repeat.getInfo().fullInfo + " ");
         sb.append(PREFIX_AMOUNT + Double.toString(repeat.getAmount().value) + " ");
-        sb.append(PREFIX_START_DATE + repeat.getStartDate().localDate.toString() + " ");
-        sb.append(PREFIX_END_DATE + repeat.getEndDate().localDate.toString() + " ");
+        sb.append(PREFIX_START_DATE + repeat.getStartDate().getLocalDate().toString() + " ");
+        sb.append(PREFIX_END_DATE + repeat.getEndDate().getLocalDate().toString() + " ");
         sb.append(PREFIX_TAG + repeat.getTag().tagName + " ");
         sb.append(PREFIX_PERIOD + repeat.getPeriod().toString() + " ");
 
@@ -45,9 +45,9 @@ public class RepeatUtil {
         descriptor.getInfo().ifPresent(info -> sb.append(PREFIX_INFO).append(info.fullInfo).append(" "));
         descriptor.getAmount().ifPresent(amount -> sb.append(PREFIX_AMOUNT).append(amount.value).append(" "));
         descriptor.getStartDate().ifPresent(startDate -> sb.append(PREFIX_START_DATE)
-                .append(startDate.localDate.toString()).append(" "));
+                .append(startDate.getLocalDate().toString()).append(" "));
         descriptor.getEndDate().ifPresent(endDate -> sb.append(PREFIX_END_DATE)
-                .append(endDate.localDate.toString()).append(" "));
+                .append(endDate.getLocalDate().toString()).append(" "));
         descriptor.getTag().ifPresent(tag -> sb.append(PREFIX_TAG).append(tag.tagName).append(" "));
         descriptor.getPeriod().ifPresent(period -> sb.append(PREFIX_PERIOD).append(period.toString()).append(" "));
         return sb.toString();
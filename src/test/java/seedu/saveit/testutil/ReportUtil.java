@@ -44,8 +44,8 @@ public class ReportUtil {
      */
     public static String getReportDetails(Report report) {
         StringBuilder sb = new StringBuilder();
-        sb.append(PREFIX_START_DATE + report.getStartDate().localDate.toString() + " ");
-        sb.append(PREFIX_END_DATE + report.getEndDate().localDate.toString() + " ");
+        sb.append(PREFIX_START_DATE + report.getStartDate().getLocalDate().toString() + " ");
+        sb.append(PREFIX_END_DATE + report.getEndDate().getLocalDate().toString() + " ");
         sb.append(PREFIX_GRAPH + report.getFormat().toString().toLowerCase() + " ");
         sb.append(PREFIX_ORGANISE + report.getOrganise() + " ");
         return sb.toString();
@@ -33,7 +33,7 @@ public class TypicalAccounts {
         AccountList ab = new AccountList(false);
         List <Account> allAccount = Arrays.asList(SCHOOL, WORK, CCA);
         for (Account account : allAccount) {
-            ab.addAccount(account);
+            ab.addAccount(account.copyAccountWithNewName(account.getAccountName()));
         }
         ab.updateActiveAccount("school");
         return ab;